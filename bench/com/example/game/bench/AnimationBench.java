@@ -0,0 +1,121 @@
+package com.example.game.bench;
+
+import com.example.game.sim.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Animation ticking: bare clips, minions through their definition, and a whole simulation step. */
+final class AnimationBench {
+    private static final int CLIPS = 256;
+
+    private AnimationBench() {
+    }
+
+    static void register(List<BenchCase> out) {
+        // One op ticks every clip once
+        out.add(new BenchCase("clip.update", "clips=" + CLIPS, () -> {
+            Clip[] clips = new Clip[CLIPS];
+            for (int i = 0; i < CLIPS; i++) {
+                clips[i] = new Clip(3 + i % 10, 50 + i % 4 * 25, i % 3 != 0);
+            }
+            return () -> {
+                long acc = 0;
+                for (Clip clip : clips) {
+                    clip.update(Simulation.STEP_MS);
+                    if (clip.isFinished()) clip.reset();
+                    acc += clip.getCurrentIndex();
+                }
+                return acc;
+            };
+        }));
+
+        // One op is a steering pass plus one update per minion; the target sweeps so they walk and attack
+        for (int count : new int[] {16, 256}) {
+            out.add(new BenchCase("minion.update", "n=" + count, () -> {
+                EntityStore store = new EntityStore(count);
+                Enemy[] minions = new Enemy[count];
+                int[] ids = new int[count];
+                for (int i = 0; i < count; i++) {
+                    minions[i] = new Enemy(store, (i * 97) % 1800);
+                    ids[i] = minions[i].getId();
+                }
+                int[] tick = {0};
+                return () -> {
+                    int target = (tick[0]++ * 3) % 1800;
+                    Enemy.steerAll(store, ids, count, target);
+                    long acc = 0;
+                    for (Enemy e : minions) {
+                        e.update(Simulation.STEP_MS);
+                        acc += e.getShownFrame();
+                    }
+                    return acc;
+                };
+            }));
+        }
+
+        // Same op over a horde, batched across worker threads; threads=1 is the serial baseline
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int count : new int[] {1024, 8192}) {
+            for (int threads : cores > 1 ? new int[] {1, cores} : new int[] {1}) {
+                out.add(new BenchCase("minion.updateParallel", "n=" + count + " t=" + threads, () -> {
+                    EntityStore store = new EntityStore(count);
+                    List<Enemy> minions = new ArrayList<>(count);
+                    int[] ids = new int[count];
+                    for (int i = 0; i < count; i++) {
+                        minions.add(new Enemy(store, (i * 97) % 1800));
+                        ids[i] = minions.get(i).getId();
+                    }
+                    MinionUpdater updater = new MinionUpdater(threads);
+                    int[] tick = {0};
+                    return new BenchCase.Op() {
+                        @Override
+                        public long run() {
+                            int target = (tick[0]++ * 3) % 1800;
+                            updater.update(store, minions, ids, count, target, Simulation.STEP_MS, CueListener.NONE);
+                            return store.x[ids[tick[0] % count]];
+                        }
+
+                        @Override
+                        public void close() {
+                            updater.close();
+                        }
+                    };
+                }));
+            }
+        }
+
+        // One op is one game tick under the scripted fight; a new game starts when one ends
+        out.add(new BenchCase("simulation.step", "", () -> {
+            Input input = new Input();
+            Simulation[] sim = {null};
+            return () -> {
+                if (sim[0] == null || sim[0].isOver() || sim[0].getTick() >= 3000) {
+                    sim[0] = new Simulation(1952, 357);
+                    sim[0].snapToGround(357);
+                    input.press(Key.RIGHT);
+                }
+                if (sim[0].getTick() % 40 == 0) input.press(Key.ATTACK);
+                sim[0].step(input);
+                return sim[0].getPlayer().getXPos();
+            };
+        }));
+
+        // Same, in horde mode: waves keep the pool busy spawning and recycling minions
+        out.add(new BenchCase("simulation.step", "horde=200", () -> {
+            Input input = new Input();
+            Simulation[] sim = {null};
+            return () -> {
+                if (sim[0] == null || sim[0].isOver() || sim[0].getTick() >= 3000) {
+                    sim[0] = new Simulation(1952, 357);
+                    sim[0].snapToGround(357);
+                    sim[0].setWaveSpawner(new WaveSpawner().firstWave(200).growth(200));
+                    input.press(Key.RIGHT);
+                }
+                if (sim[0].getTick() % 40 == 0) input.press(Key.ATTACK);
+                sim[0].step(input);
+                return sim[0].getEnemies().size();
+            };
+        }));
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.game.bench;
+
+/**
+ * One named measurement. {@link #setup} runs outside the timed region and
+ * returns the state the harness calls in a loop; each call is one op.
+ */
+public record BenchCase(String name, String param, Setup setup) {
+
+    @FunctionalInterface
+    public interface Setup {
+        Op create() throws Exception;
+    }
+
+    /** The timed body. Return something derived from the work so the JIT cannot drop it. */
+    @FunctionalInterface
+    public interface Op extends AutoCloseable {
+        long run() throws Exception;
+
+        @Override
+        default void close() {
+        }
+    }
+
+    public String label() {
+        return param.isEmpty() ? name : name + ":" + param;
+    }
+}
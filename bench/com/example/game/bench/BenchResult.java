@@ -0,0 +1,49 @@
+package com.example.game.bench;
+
+import java.util.Locale;
+
+/** Summary of one benchmark's measured iterations, in ns/op. */
+public record BenchResult(String name, String param, int count, double score, double stdev, double min, double max) {
+    static final String CSV_HEADER = "benchmark,param,iterations,score,stdev,min,max,unit";
+
+    static BenchResult of(BenchCase c, double[] nsPerOp) {
+        double sum = 0, min = Double.MAX_VALUE, max = 0;
+        for (double v : nsPerOp) {
+            sum += v;
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        int n = nsPerOp.length;
+        double mean = sum / n;
+        double sq = 0;
+        for (double v : nsPerOp) sq += (v - mean) * (v - mean);
+        double stdev = n > 1 ? Math.sqrt(sq / (n - 1)) : 0;
+        return new BenchResult(c.name(), c.param(), n, mean, stdev, n > 0 ? min : 0, max);
+    }
+
+    static String header() {
+        return String.format(Locale.ROOT, "%-24s %-18s %4s %14s %12s  %s",
+                "Benchmark", "(param)", "Cnt", "Score", "Stdev", "Units");
+    }
+
+    String row() {
+        return String.format(Locale.ROOT, "%-24s %-18s %4d %,14.1f %,12.1f  ns/op",
+                name, param, count, score, stdev);
+    }
+
+    String csv() {
+        return String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f,%.3f,ns/op",
+                name, param, count, score, stdev, min, max);
+    }
+
+    String json() {
+        return String.format(Locale.ROOT,
+                "{\"benchmark\": \"%s\", \"param\": \"%s\", \"iterations\": %d, \"score\": %.3f, "
+                        + "\"stdev\": %.3f, \"min\": %.3f, \"max\": %.3f, \"unit\": \"ns/op\"}",
+                escape(name), escape(param), count, score, stdev, min, max);
+    }
+
+    static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.game.bench;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Microbenchmarks for the hot paths: animation ticking, hit tests, sprite
+ * blits and asset loading. Average time per op, JMH style: each benchmark
+ * runs in a fresh forked JVM, so one case's profile cannot skew the JIT for
+ * the next; warmup iterations are thrown away; the score is the mean over
+ * measured iterations.
+ *
+ * <p>The clock is read once per iteration, not once per op. Before warming
+ * up, the batch of ops is doubled until one batch takes the iteration time,
+ * and every iteration then runs exactly that batch, so even sub-microsecond
+ * ops measure the op rather than {@code System.nanoTime()}.
+ *
+ * <pre>
+ * javac -encoding UTF-8 -d out/sim $(find sim/src -name '*.java')
+ * javac -encoding UTF-8 --module-path out/sim -d out/game $(find src bench -name '*.java')
+ * cp -r src/assets out/game/
+ * java -Djava.awt.headless=true --module-path out/sim:out/game \
+ *      -m JavaGame/com.example.game.bench.BenchRunner [options] [regex]
+ * </pre>
+ *
+ * Options: {@code -wi N} warmup iterations (3), {@code -i N} measured
+ * iterations (5), {@code -r MS} iteration time (500), {@code -f N} forks
+ * per benchmark (1; 0 runs everything in this JVM, quick but JIT-polluted),
+ * {@code -rf csv|json} result format and {@code -rff FILE} where to write
+ * it, {@code -l} list benchmarks. The regex selects benchmarks by
+ * {@code name:param}. Forks inherit this JVM's options and module path.
+ *
+ * <p>The cases map one to one onto JMH once the tree has a build
+ * descriptor to pull it in: a {@link BenchCase.Setup} becomes a
+ * {@code @State} class with a {@code @Setup} method, {@link BenchCase.Op#run}
+ * a {@code @Benchmark} method returning its value to the blackhole, and the
+ * param a {@code @Param}. Until then this harness is the stand-in.
+ */
+public class BenchRunner {
+    private static final String RESULT_PREFIX = "#result ";   // a fork's measured ns/op values, for the parent
+    private static volatile long sink;
+
+    public static void main(String[] args) throws Exception {
+        int warmups = 3, iterations = 5, iterationMs = 500, forks = 1;
+        String format = null, file = null;
+        Pattern filter = null;
+        boolean list = false, child = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-wi" -> warmups = Integer.parseInt(args[++i]);
+                case "-i" -> iterations = Integer.parseInt(args[++i]);
+                case "-r" -> iterationMs = Integer.parseInt(args[++i]);
+                case "-f" -> forks = Integer.parseInt(args[++i]);
+                case "-child" -> child = true;
+                case "-rf" -> format = args[++i].toLowerCase(Locale.ROOT);
+                case "-rff" -> file = args[++i];
+                case "-l" -> list = true;
+                default -> filter = Pattern.compile(args[i]);
+            }
+        }
+        if (format != null && !format.equals("csv") && !format.equals("json")) {
+            throw new IllegalArgumentException("รูปแบบผลลัพธ์ไม่รองรับ: " + format);
+        }
+        if (format != null && file == null) {
+            file = "bench-results." + format;
+        }
+
+        List<BenchCase> cases = new ArrayList<>();
+        AnimationBench.register(cases);
+        HitTestBench.register(cases);
+        BlitBench.register(cases);
+        LoadBench.register(cases);
+
+        List<BenchResult> results = new ArrayList<>();
+        for (BenchCase c : cases) {
+            if (filter != null && !filter.matcher(c.label()).find()) continue;
+            if (list) {
+                System.out.println(c.label());
+                continue;
+            }
+            if (child) {
+                double[] nsPerOp = measure(c, warmups, iterations, iterationMs * 1_000_000L);
+                StringBuilder line = new StringBuilder(RESULT_PREFIX);
+                for (double ns : nsPerOp) line.append(ns).append(' ');
+                System.out.println(line.toString().trim());
+                return;
+            }
+            System.out.printf("# %s%n", c.label());
+            double[] nsPerOp = new double[0];
+            if (forks <= 0) {
+                nsPerOp = measure(c, warmups, iterations, iterationMs * 1_000_000L);
+            }
+            for (int f = 0; f < forks; f++) {
+                System.out.printf("  fork %d of %d%n", f + 1, forks);
+                nsPerOp = concat(nsPerOp, fork(c, warmups, iterations, iterationMs));
+            }
+            results.add(BenchResult.of(c, nsPerOp));
+        }
+        if (list || child) return;
+
+        System.out.println();
+        System.out.println(BenchResult.header());
+        for (BenchResult r : results) {
+            System.out.println(r.row());
+        }
+        if (file != null) {
+            write(Path.of(file), format, results);
+            System.out.println("\nผลลัพธ์: " + file);
+        }
+    }
+
+    private static double[] measure(BenchCase c, int warmups, int iterations, long iterationNanos) throws Exception {
+        double[] nsPerOp = new double[iterations];
+        try (BenchCase.Op op = c.setup().create()) {
+            long batch = calibrate(op, iterationNanos);
+            System.out.printf("  batch  %,d ops/iteration%n", batch);
+            for (int i = 0; i < warmups; i++) {
+                double ns = iteration(op, batch);
+                System.out.printf("  warmup %d: %,.1f ns/op%n", i + 1, ns);
+            }
+            for (int i = 0; i < iterations; i++) {
+                nsPerOp[i] = iteration(op, batch);
+                System.out.printf("  iter   %d: %,.1f ns/op%n", i + 1, nsPerOp[i]);
+            }
+        }
+        return nsPerOp;
+    }
+
+    // Doubles the batch until one batch lasts an iteration
+    private static long calibrate(BenchCase.Op op, long iterationNanos) throws Exception {
+        long batch = 1;
+        while (true) {
+            long start = System.nanoTime();
+            long acc = 0;
+            for (long i = 0; i < batch; i++) {
+                acc += op.run();
+            }
+            sink ^= acc;
+            if (System.nanoTime() - start >= iterationNanos || batch >= Long.MAX_VALUE / 2) {
+                return batch;
+            }
+            batch *= 2;
+        }
+    }
+
+    // Two clock reads around the whole batch, so the clock's own cost is spread over every op
+    private static double iteration(BenchCase.Op op, long batch) throws Exception {
+        long acc = 0;
+        long start = System.nanoTime();
+        for (long i = 0; i < batch; i++) {
+            acc += op.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        sink ^= acc;
+        return elapsed / (double) batch;
+    }
+
+    /** Runs one benchmark in a new JVM with this one's options and path; returns its measured ns/op values. */
+    private static double[] fork(BenchCase c, int warmups, int iterations, int iterationMs)
+            throws IOException, InterruptedException {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(ProcessHandle.current().info().command().orElse("java"));
+        cmd.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        String modulePath = System.getProperty("jdk.module.path");
+        if (modulePath != null) {
+            cmd.add("--module-path");
+            cmd.add(modulePath);
+            cmd.add("-m");
+            cmd.add(BenchRunner.class.getModule().getName() + "/" + BenchRunner.class.getName());
+        } else {
+            cmd.add("-cp");
+            cmd.add(System.getProperty("java.class.path"));
+            cmd.add(BenchRunner.class.getName());
+        }
+        cmd.addAll(List.of("-child", "-wi", String.valueOf(warmups), "-i", String.valueOf(iterations),
+                "-r", String.valueOf(iterationMs), "^" + Pattern.quote(c.label()) + "$"));
+
+        Process p = new ProcessBuilder(cmd).redirectErrorStream(true).start();
+        double[] nsPerOp = null;
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    String[] parts = line.substring(RESULT_PREFIX.length()).trim().split(" ");
+                    nsPerOp = new double[parts.length];
+                    for (int i = 0; i < parts.length; i++) nsPerOp[i] = Double.parseDouble(parts[i]);
+                } else {
+                    System.out.println(line);
+                }
+            }
+        }
+        int exit = p.waitFor();
+        if (exit != 0 || nsPerOp == null) {
+            throw new IOException("fork ของ " + c.label() + " ล้มเหลว (exit " + exit + ")");
+        }
+        return nsPerOp;
+    }
+
+    private static double[] concat(double[] a, double[] b) {
+        double[] out = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, out, a.length, b.length);
+        return out;
+    }
+
+    private static void write(Path path, String format, List<BenchResult> results) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            if (format.equals("csv")) {
+                out.println(BenchResult.CSV_HEADER);
+                for (BenchResult r : results) out.println(r.csv());
+                return;
+            }
+            out.println("{");
+            out.printf("  \"timestamp\": \"%s\",%n", Instant.now());
+            out.printf("  \"jvm\": \"%s\",%n", BenchResult.escape(System.getProperty("java.vm.name") + " " + Runtime.version()));
+            out.printf("  \"os\": \"%s\",%n", BenchResult.escape(System.getProperty("os.name") + " " + System.getProperty("os.arch")));
+            out.println("  \"results\": [");
+            for (int i = 0; i < results.size(); i++) {
+                out.print("    " + results.get(i).json());
+                out.println(i + 1 < results.size() ? "," : "");
+            }
+            out.println("  ]");
+            out.println("}");
+        }
+    }
+}
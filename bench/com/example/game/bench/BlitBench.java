@@ -0,0 +1,85 @@
+package com.example.game.bench;
+
+import com.example.game.core.ResourceLoader;
+import com.example.game.core.SheetSpec;
+import com.example.game.core.SpriteSheet;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/** Sprite blits into an offscreen frame the size of the game view. One op draws every frame of the sheet once. */
+final class BlitBench {
+    private static final int VIEW_W = 928, VIEW_H = 357;
+    private static final SheetSpec PLAYER_RUN = new SheetSpec("/assets/Player", "_Run_r1_c", 10, 240, 160);
+    private static final SheetSpec BOSS_WALK = new SheetSpec("/assets/Cthulhu", "walk_", 12, 384, 224);
+
+    private BlitBench() {
+    }
+
+    static void register(List<BenchCase> out) {
+        for (SheetSpec spec : new SheetSpec[] {PLAYER_RUN, BOSS_WALK}) {
+            String param = spec.prefix() + spec.width() + "x" + spec.height();
+            out.add(new BenchCase("blit.right", param, () -> sheetOp(spec, false)));
+            out.add(new BenchCase("blit.left", param, () -> sheetOp(spec, true)));
+            out.add(new BenchCase("blit.leftNoMirrorCache", param, () -> {
+                ResourceLoader.setMirrorCacheEnabled(false);
+                BenchCase.Op op = sheetOp(spec, true);
+                return new BenchCase.Op() {
+                    @Override
+                    public long run() throws Exception {
+                        return op.run();
+                    }
+
+                    @Override
+                    public void close() {
+                        op.close();
+                        ResourceLoader.setMirrorCacheEnabled(true);
+                    }
+                };
+            }));
+        }
+
+        // One op draws the visible window of the background
+        out.add(new BenchCase("blit.background", VIEW_W + "x" + VIEW_H, () -> {
+            Image bg = ResourceLoader.loadImage("/assets/Background.png");
+            BufferedImage frame = ResourceLoader.createCompatibleImage(VIEW_W, VIEW_H, Transparency.OPAQUE);
+            Graphics2D g = frame.createGraphics();
+            int maxX = Math.max(1, bg.getWidth(null) - VIEW_W);
+            int[] x = {0};
+            return new BenchCase.Op() {
+                @Override
+                public long run() {
+                    x[0] = (x[0] + 7) % maxX;
+                    g.drawImage(bg, 0, 0, VIEW_W, VIEW_H, x[0], 0, x[0] + VIEW_W, VIEW_H, null);
+                    return frame.getRGB(VIEW_W / 2, VIEW_H / 2);
+                }
+
+                @Override
+                public void close() {
+                    g.dispose();
+                }
+            };
+        }));
+    }
+
+    private static BenchCase.Op sheetOp(SheetSpec spec, boolean flipH) {
+        SpriteSheet sheet = ResourceLoader.loadAnimationSheet(spec);
+        BufferedImage frame = ResourceLoader.createCompatibleImage(VIEW_W, VIEW_H, Transparency.OPAQUE);
+        Graphics2D g = frame.createGraphics();
+        return new BenchCase.Op() {
+            @Override
+            public long run() {
+                for (int i = 0; i < sheet.getFrameCount(); i++) {
+                    sheet.drawFrame(g, i, i * 40 % (VIEW_W - sheet.getFrameWidth()), 0, flipH);
+                }
+                return frame.getRGB(VIEW_W / 2, VIEW_H / 2);
+            }
+
+            @Override
+            public void close() {
+                g.dispose();
+            }
+        };
+    }
+}
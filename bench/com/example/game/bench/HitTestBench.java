@@ -0,0 +1,93 @@
+package com.example.game.bench;
+
+import com.example.game.sim.*;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Hit-box overlap against a sweeping player box at several entity counts:
+ * testing every entity, querying the spatial grid, and the grid including
+ * re-filing entities that moved.
+ */
+final class HitTestBench {
+    private static final int WORLD_W = 1952, WORLD_H = 357;
+    private static final int[] COUNTS = {16, 128, 1024};
+
+    private HitTestBench() {
+    }
+
+    static void register(List<BenchCase> out) {
+        for (int n : COUNTS) {
+            out.add(new BenchCase("hittest.bruteForce", "n=" + n, () -> {
+                Field f = new Field(n);
+                return () -> {
+                    Box player = f.sweep();
+                    long hits = 0;
+                    for (Enemy e : f.enemies) {
+                        if (player.intersects(e.getHitBox(f.other))) hits++;
+                    }
+                    return hits;
+                };
+            }));
+        }
+        for (int n : COUNTS) {
+            out.add(new BenchCase("hittest.grid", "n=" + n, () -> {
+                Field f = new Field(n);
+                return () -> {
+                    Box player = f.sweep();
+                    return f.queryGrid(player);
+                };
+            }));
+        }
+        for (int n : COUNTS) {
+            out.add(new BenchCase("hittest.gridMoving", "n=" + n, () -> {
+                Field f = new Field(n);
+                return () -> {
+                    Box player = f.sweep();
+                    for (Enemy e : f.enemies) {
+                        int x = e.getXPos() + (e.getId() % 2 == 0 ? 2 : -2);
+                        e.setPosition(Math.floorMod(x, WORLD_W), e.getYPos());
+                        f.grid.update(e);
+                    }
+                    return f.queryGrid(player);
+                };
+            }));
+        }
+    }
+
+    /** Minions scattered over the game's world with a fixed seed, filed in a grid. */
+    private static final class Field {
+        final EntityStore store;
+        final Enemy[] enemies;
+        final SpatialGrid grid = new SpatialGrid(WORLD_W, WORLD_H);
+        final Box player = new Box();
+        final Box other = new Box();
+        int sweepX = 0;
+
+        Field(int n) {
+            store = new EntityStore(n);
+            enemies = new Enemy[n];
+            Random rnd = new Random(42);
+            for (int i = 0; i < n; i++) {
+                Enemy e = new Enemy(store, rnd.nextInt(WORLD_W));
+                e.setPosition(e.getXPos(), rnd.nextInt(WORLD_H - Enemy.FRAME_H));
+                enemies[i] = e;
+                grid.update(e);
+            }
+        }
+
+        Box sweep() {
+            sweepX = (sweepX + 37) % (WORLD_W - Player.FRAME_W);
+            return player.setBounds(sweepX, WORLD_H - Player.FRAME_H - 50, Player.FRAME_W - 60, Player.FRAME_H - 20);
+        }
+
+        long queryGrid(Box box) {
+            long hits = 0;
+            for (int i = 0, count = grid.query(box); i < count; i++) {
+                if (box.intersects(grid.getResult(i).getHitBox(other))) hits++;
+            }
+            return hits;
+        }
+    }
+}
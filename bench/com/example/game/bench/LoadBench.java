@@ -0,0 +1,49 @@
+package com.example.game.bench;
+
+import com.example.game.core.*;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Asset loading with the caches bypassed: what a cold start pays per image,
+ * sheet and sound, next to the cost of a cache hit. One op loads one asset.
+ */
+final class LoadBench {
+    private static final String IMAGE = "/assets/Background.png";
+    private static final SheetSpec SHEET = new SheetSpec("/assets/Player", "_Idle_r1_c", 10, 240, 160);
+    private static final String SOUND = "/assets/sound/sword-sound-2-36274.wav";
+
+    private LoadBench() {
+    }
+
+    static void register(List<BenchCase> out) {
+        out.add(new BenchCase("load.image", "Background", () -> () -> {
+            Image img = ResourceLoader.toCompatibleImage(ImageIO.read(LoadBench.class.getResource(IMAGE)));
+            return img.getWidth(null);
+        }));
+
+        out.add(new BenchCase("load.sheet", SHEET.prefix(), () -> () -> {
+            Image[] frames = new Image[SHEET.count()];
+            for (int i = 0; i < frames.length; i++) {
+                String path = String.format("%s/%s%d.png", SHEET.folder(), SHEET.prefix(), i + 1);
+                frames[i] = ImageIO.read(LoadBench.class.getResource(path));
+            }
+            SpriteSheet sheet = SpriteSheet.pack(frames, SHEET.width(), SHEET.height());
+            return sheet.getAtlas().getWidth();
+        }));
+
+        out.add(new BenchCase("load.sound", "sword", () -> () -> {
+            try (InputStream in = LoadBench.class.getResourceAsStream(SOUND)) {
+                return SoundBuffer.decode(SOUND, in).getFrameCount();
+            }
+        }));
+
+        out.add(new BenchCase("load.sheetCached", SHEET.prefix(), () -> {
+            ResourceLoader.loadAnimationSheet(SHEET);
+            return () -> ResourceLoader.loadAnimationSheet(SHEET).getFrameCount();
+        }));
+    }
+}
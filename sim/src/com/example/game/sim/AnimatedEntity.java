@@ -0,0 +1,97 @@
+// ==================== AnimatedEntity.java ====================
+package com.example.game.sim;
+
+/**
+ * Entity driven by an {@link EntityDefinition}. The current state is an
+ * ordinal in {@link EntityStore#state}, so batch passes can change it; the
+ * matching animation is restarted the next time the entity syncs.
+ */
+public abstract class AnimatedEntity<S extends Enum<S>> extends Entity {
+    protected final EntityDefinition<S> definition;
+    private final Clip[] animations;
+    private int animState = -1;
+
+    public AnimatedEntity(EntityStore store, EntityDefinition<S> definition, int maxHp, int atk, int def, int speed) {
+        super(store, maxHp, atk, def, speed);
+        this.definition = definition;
+        this.animations = definition.createClips(this);
+    }
+
+    public EntityDefinition<S> getDefinition() {
+        return definition;
+    }
+
+    protected S getState() {
+        return definition.getState(store.state[id]);
+    }
+
+    protected boolean inState(S state) {
+        return store.state[id] == state.ordinal();
+    }
+
+    /** Entering a different state restarts its animation; re-entering the current one does nothing. */
+    protected void setState(S newState) {
+        store.state[id] = (byte) newState.ordinal();
+        syncAnimation();
+    }
+
+    /** Enters {@code state} from its first frame, even if it is the current one. */
+    protected void restartState(S state) {
+        store.state[id] = (byte) state.ordinal();
+        animState = -1;
+        syncAnimation();
+    }
+
+    /** Catches the animation up with a state written straight into the store. */
+    protected void syncAnimation() {
+        int s = store.state[id];
+        if (s != animState) {
+            animState = s;
+            animations[s].reset();
+            onEnter(definition.getState(s));
+        }
+    }
+
+    /**
+     * Advances the current animation. A finished one-shot state moves on to
+     * its declared {@code then} state; without one it holds its last frame.
+     * @return true if a one-shot animation finished (or is holding), so the
+     *         caller can pick a transition of its own
+     */
+    protected boolean updateAnimation(int dt) {
+        syncAnimation();
+        Clip anim = animations[animState];
+        anim.update(dt);
+        if (!anim.isFinished()) {
+            return false;
+        }
+        int next = definition.next[animState];
+        if (next != EntityDefinition.NONE) {
+            store.state[id] = (byte) next;
+            syncAnimation();
+        }
+        return true;
+    }
+
+    protected void onEnter(S state) {
+    }
+
+    protected void onFrameEvent(EntityDefinition.FrameEvent event) {
+    }
+
+    protected Clip getAnimation(S state) {
+        return animations[state.ordinal()];
+    }
+
+    /** Ordinal of the state whose animation is showing; reading it never restarts one. */
+    public int getShownState() {
+        return animState < 0 ? store.state[id] : animState;
+    }
+
+    /** Frame of the showing animation a renderer should draw. */
+    public int getShownFrame() {
+        return animations[getShownState()].getCurrentIndex();
+    }
+
+    public abstract void update(int dt);
+}
@@ -0,0 +1,45 @@
+package com.example.game.sim;
+
+/**
+ * Integer axis-aligned box for hit tests, with the same field names and
+ * overlap rule as {@code java.awt.Rectangle} so the rules do not need the
+ * desktop module.
+ */
+public final class Box {
+    public int x, y, width, height;
+
+    public Box() {
+    }
+
+    public Box(int x, int y, int width, int height) {
+        setBounds(x, y, width, height);
+    }
+
+    public Box setBounds(int x, int y, int width, int height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return width <= 0 || height <= 0;
+    }
+
+    /** Touching edges do not count; an empty box intersects nothing. */
+    public boolean intersects(Box o) {
+        if (isEmpty() || o.isEmpty()) return false;
+        return (long) o.x + o.width > x && (long) o.y + o.height > y
+                && (long) x + width > o.x && (long) y + height > o.y;
+    }
+
+    public int getCenterX() {
+        return x + width / 2;
+    }
+
+    @Override
+    public String toString() {
+        return "Box[x=" + x + ",y=" + y + ",width=" + width + ",height=" + height + "]";
+    }
+}
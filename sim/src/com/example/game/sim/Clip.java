@@ -0,0 +1,96 @@
+package com.example.game.sim;
+
+/**
+ * Playback cursor over an animation's frame timing, without the pixels.
+ * Time left over after a frame advance is carried into the next one, so a
+ * long tick can step several frames; each frame can fire registered events.
+ * The renderer draws whatever frame {@link #getCurrentIndex()} points at.
+ */
+public class Clip {
+    private final int frameCount;
+    private final int interval;
+    private final Runnable[] frameEvents;
+    private int index = 0;
+    private float elapsed = 0f;
+    private float playbackRate = 1f;
+    private final boolean loop;
+    private boolean finished = false;
+
+    public Clip(int frameCount, int interval) {
+        this(frameCount, interval, true);
+    }
+
+    public Clip(int frameCount, int interval, boolean loop) {
+        this.frameCount = Math.max(1, frameCount);
+        this.interval = Math.max(1, interval);
+        this.loop = loop;
+        this.frameEvents = new Runnable[this.frameCount];
+    }
+
+    /** Runs the callback every time playback enters the given frame. */
+    public Clip onFrame(int frame, Runnable callback) {
+        Runnable prev = frameEvents[frame];
+        frameEvents[frame] = prev == null ? callback : () -> { prev.run(); callback.run(); };
+        return this;
+    }
+
+    /** 1.0 is normal speed; 0.5 plays every frame twice as long. */
+    public void setPlaybackRate(float rate) {
+        this.playbackRate = Math.max(0f, rate);
+    }
+
+    public float getPlaybackRate() {
+        return playbackRate;
+    }
+
+    public void update(int dt) {
+        if (finished && !loop) return;
+
+        elapsed += dt * playbackRate;
+        while (elapsed >= interval && !finished) {
+            elapsed -= interval;
+            advance();
+        }
+    }
+
+    private void advance() {
+        index++;
+        if (index >= frameCount) {
+            if (loop) {
+                index = 0;
+            } else {
+                index = frameCount - 1;
+                finished = true;
+                elapsed = 0f;
+                return;
+            }
+        }
+        fireFrame(index);
+    }
+
+    private void fireFrame(int frame) {
+        Runnable event = frameEvents[frame];
+        if (event != null) {
+            event.run();
+        }
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public int getCurrentIndex() {
+        return index;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public void reset() {
+        index = 0;
+        elapsed = 0f;
+        finished = false;
+        fireFrame(0);
+    }
+}
@@ -0,0 +1,175 @@
+// ==================== Cthulu.java ====================
+package com.example.game.sim;
+
+public class Cthulu extends AnimatedEntity<Cthulu.State> {
+    public static final int FRAME_W = 192 * 2;
+    public static final int FRAME_H = 112 * 2;
+
+    public enum State { IDLE, WALK, ATTACK1, ATTACK2, DEATH }
+
+    private static final int HIT_FRAME_ATK1 = 3;
+    private static final int HIT_FRAME_ATK2 = 4;
+    private static final int HURT_FREEZE_MS = 200;
+
+    // ATTACK1 chains into ATTACK2, then back to idle; each opens the strike on its hit frame
+    public static final EntityDefinition<State> DEFINITION = EntityDefinition.builder(State.class)
+            .state(State.IDLE, 9, 100)
+            .state(State.WALK, 12, 100)
+            .state(State.ATTACK1, 7, 100).once()
+                .on(HIT_FRAME_ATK1, EntityDefinition.FrameEvent.STRIKE_OPEN)
+                .on(HIT_FRAME_ATK1 + 1, EntityDefinition.FrameEvent.STRIKE_CLOSE)
+                .then(State.ATTACK2)
+            .state(State.ATTACK2, 9, 100).once()
+                .on(HIT_FRAME_ATK2, EntityDefinition.FrameEvent.STRIKE_OPEN)
+                .on(HIT_FRAME_ATK2 + 1, EntityDefinition.FrameEvent.STRIKE_CLOSE)
+                .then(State.IDLE)
+            .state(State.DEATH, 9, 100).once()
+            .build();
+
+    private final Player target;
+    private int attackRange = 220;
+    private int chaseRange = 700;
+    private int chaseSpeed = 2;
+    private boolean chaseLocked = true;
+    private boolean hasRoared = false;
+    
+    // ✅ EntityStore.STRIKE_OPEN เปิดเฉพาะเฟรมที่โดน และปิดทันทีเมื่อโดนแล้ว ป้องกันดาเมจซ้ำ
+    private final Box atkBox = new Box();
+    
+    private boolean inHurtFreeze = false;
+    private int hurtElapsedMs = 0;
+
+    public Cthulu(EntityStore store, Player target) {
+        super(store, DEFINITION, 100, 18, 5, 2);
+        this.target = target;
+        setFacingLeft(true);
+        setState(State.IDLE);
+    }
+
+    @Override
+    protected void onEnter(State state) {
+        if (state == State.ATTACK1 || state == State.ATTACK2) {
+            store.set(id, EntityStore.STRIKE_OPEN, false);  // ✅ รีเซ็ตทุกครั้งที่เริ่มโจมตีใหม่
+        }
+    }
+
+    @Override
+    protected void onFrameEvent(EntityDefinition.FrameEvent event) {
+        switch (event) {
+            case STRIKE_OPEN -> {
+                cues.onCue(Cue.BOSS_ATTACK);
+                store.set(id, EntityStore.STRIKE_OPEN, true);
+            }
+            case STRIKE_CLOSE -> store.set(id, EntityStore.STRIKE_OPEN, false);
+        }
+    }
+
+    public void setChaseEnabled(boolean enabled) {
+        this.chaseLocked = !enabled;
+    }
+
+    public void setChaseRange(int range) {
+        this.chaseRange = Math.max(0, range);
+    }
+
+    public void triggerRoar() {
+        if (!hasRoared) {
+            cues.onCue(Cue.BOSS_ROAR);
+            hasRoared = true;
+        }
+    }
+
+    public void takeDamageFromPlayer(int dmg, boolean fromAttack2) {
+        super.takeDamage(dmg);
+        if (!isDead() && fromAttack2) {
+            inHurtFreeze = true;
+            hurtElapsedMs = 0;
+        }
+    }
+
+    public boolean tryHit(Box targetHitBox) {
+        // ✅ เช็คว่ากำลังโจมตี และ อยู่ในเฟรมที่โดน (ยังไม่เคยโดนในท่านี้)
+        State state = getState();
+        if ((state != State.ATTACK1 && state != State.ATTACK2) || !store.has(id, EntityStore.STRIKE_OPEN)) {
+            return false;
+        }
+
+        int x = store.x[id];
+        atkBox.setBounds(
+            isFacingLeft() ? x - 40 : x + FRAME_W - 40,
+            store.y[id] + 20, 60, FRAME_H - 40
+        );
+
+        if (atkBox.intersects(targetHitBox)) {
+            store.set(id, EntityStore.STRIKE_OPEN, false);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected void onDeath() {
+        cues.onCue(Cue.BOSS_DEATH);
+        setState(State.DEATH);
+    }
+
+    @Override
+    public void update(int dt) {
+        if (isDead()) {
+            if (updateAnimation(dt)) {
+                vanish();
+            }
+            return;
+        }
+
+        // Hurt freeze
+        if (inHurtFreeze) {
+            hurtElapsedMs += dt;
+            if (hurtElapsedMs >= HURT_FREEZE_MS) {
+                inHurtFreeze = false;
+                hurtElapsedMs = 0;
+            }
+            return;
+        }
+
+        // AI
+        switch (getState()) {
+            case IDLE, WALK -> steer();
+            default -> { }
+        }
+
+        // ATTACK1 → ATTACK2 → IDLE come from the definition
+        updateAnimation(dt);
+    }
+
+    private void steer() {
+        if (target == null) return;
+        int dx = target.getXPos() - store.x[id];
+        setFacingLeft(dx < 0);
+        int dist = Math.abs(dx);
+
+        if (chaseLocked) {
+            setState(State.IDLE);
+        } else if (dist < attackRange) {
+            setState(State.ATTACK1);
+        } else if (dist < chaseRange) {
+            setState(State.WALK);
+            store.x[id] += (dx > 0 ? chaseSpeed : -chaseSpeed);
+        } else {
+            setState(State.IDLE);
+        }
+    }
+
+    @Override
+    public Box getHitBox(Box out) {
+        out.setBounds(store.x[id] + 50, store.y[id] + 50, FRAME_W - 100, FRAME_H - 50);
+        return out;
+    }
+
+    // Hit box plus the attack box on either side
+    @Override
+    public Box getBroadBounds(Box out) {
+        out.setBounds(store.x[id] - 40, store.y[id] + 20, FRAME_W + 60, FRAME_H - 20);
+        return out;
+    }
+}
\ No newline at end of file
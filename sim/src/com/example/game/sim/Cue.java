@@ -0,0 +1,13 @@
+package com.example.game.sim;
+
+/**
+ * Something the simulation did that a front end may want to be heard or
+ * shown. The simulation only reports cues; which sound each one plays, or
+ * what gets logged, is up to the listener.
+ */
+public enum Cue {
+    PLAYER_SWORD, PLAYER_DEATH, PLAYER_CURSED, PLAYER_UNCURSED,
+    MINION_GROWL, MINION_ATTACK, MINION_DEATH,
+    BOSS_ROAR, BOSS_ATTACK, BOSS_DEATH,
+    GEM_PICK
+}
@@ -0,0 +1,9 @@
+package com.example.game.sim;
+
+/** Receives {@link Cue}s on the simulation thread, in the order they happen. */
+@FunctionalInterface
+public interface CueListener {
+    CueListener NONE = cue -> { };
+
+    void onCue(Cue cue);
+}
@@ -0,0 +1,161 @@
+
+package com.example.game.sim;
+
+/**
+ * Minion. Its AI state lives in {@link EntityStore#state} so steering for
+ * every minion runs as one pass over the store ({@link #steerAll}); the
+ * object keeps only animation clocks and timers.
+ */
+public class Enemy extends AnimatedEntity<Enemy.State> {
+    public static final int FRAME_W = 128;
+    public static final int FRAME_H = 128;
+
+    public enum State { WALK, ATTACK, DEATH }
+
+    // Ordinals as stored in store.state, for steerAll
+    private static final byte S_WALK = (byte) State.WALK.ordinal();
+    private static final byte S_ATTACK = (byte) State.ATTACK.ordinal();
+
+    private static final int HIT_FRAME = 1;
+    private static final int ATTACK_RANGE = 120;
+    private static final int GROWL_INTERVAL = 2000;
+
+    public static final EntityDefinition<State> DEFINITION = EntityDefinition.builder(State.class)
+            .state(State.WALK, 8, 100)
+            .state(State.ATTACK, 3, 80).once()
+                .on(HIT_FRAME, EntityDefinition.FrameEvent.STRIKE_OPEN)
+                .on(HIT_FRAME + 1, EntityDefinition.FrameEvent.STRIKE_CLOSE)
+                .then(State.WALK)
+            .state(State.DEATH, 3, 80).once()
+            .build();
+    
+    private int growlElapsed = 0;
+    private final Box atkBox = new Box();
+
+    public Enemy(EntityStore store, int startX) {
+        super(store, DEFINITION, 40, 6, 0, 2);
+        store.x[id] = startX;
+        setState(State.WALK);
+    }
+
+    @Override
+    protected void onEnter(State state) {
+        if (state == State.ATTACK) {
+            store.set(id, EntityStore.STRIKE_OPEN, false);
+        }
+    }
+
+    @Override
+    protected void onFrameEvent(EntityDefinition.FrameEvent event) {
+        switch (event) {
+            case STRIKE_OPEN -> {
+                cues.onCue(Cue.MINION_ATTACK);
+                store.set(id, EntityStore.STRIKE_OPEN, true);
+            }
+            case STRIKE_CLOSE -> store.set(id, EntityStore.STRIKE_OPEN, false);
+        }
+    }
+
+    /**
+     * Chase-or-attack decision and movement for the given minions, in one
+     * loop over the store. Run it before the per-object {@link #update}.
+     */
+    public static void steerAll(EntityStore store, int[] ids, int count, int targetX) {
+        steerAll(store, ids, 0, count, targetX);
+    }
+
+    /** {@link #steerAll(EntityStore, int[], int, int)} over {@code ids[from..to)} only. */
+    public static void steerAll(EntityStore store, int[] ids, int from, int to, int targetX) {
+        int[] xs = store.x, hps = store.hp, speeds = store.speed;
+        byte[] states = store.state, flags = store.flags;
+        for (int i = from; i < to; i++) {
+            int id = ids[i];
+            if (hps[id] <= 0 || (flags[id] & EntityStore.VANISHED) != 0 || states[id] == S_ATTACK) {
+                continue;
+            }
+            int dx = targetX - xs[id];
+            flags[id] = (byte) (dx < 0 ? flags[id] | EntityStore.FACING_LEFT : flags[id] & ~EntityStore.FACING_LEFT);
+            if (Math.abs(dx) < ATTACK_RANGE) {
+                states[id] = S_ATTACK;
+            } else {
+                states[id] = S_WALK;
+                xs[id] += dx > 0 ? speeds[id] : -speeds[id];
+            }
+        }
+    }
+
+    @Override
+    public void update(int dt) {
+        if (isGone()) return;
+
+        // Periodic growl
+        if (!isDead()) {
+            growlElapsed += dt;
+            if (growlElapsed >= GROWL_INTERVAL) {
+                cues.onCue(Cue.MINION_GROWL);
+                growlElapsed = 0;
+            }
+        }
+
+        // Death animation
+        if (isDead()) {
+            if (updateAnimation(dt)) {
+                vanish();
+            }
+            return;
+        }
+
+        // Attack returns to walk through the definition
+        updateAnimation(dt);
+    }
+
+    @Override
+    protected void onDeath() {
+        cues.onCue(Cue.MINION_DEATH);
+        setState(State.DEATH);
+    }
+
+    /** Re-arms a vanished minion from the pool: full HP, walking at {@code x}, clips and sounds kept. */
+    void respawn(int x, int groundHeight) {
+        store.x[id] = x;
+        store.hp[id] = store.maxHp[id];
+        store.flags[id] = 0;
+        growlElapsed = 0;
+        respawned();
+        restartState(State.WALK);
+        snapToGround(groundHeight);
+    }
+
+    public boolean tryHit(Box targetHitBox) {
+        if (!inState(State.ATTACK) || !store.has(id, EntityStore.STRIKE_OPEN)) return false;
+
+        int x = store.x[id];
+        atkBox.setBounds(
+            isFacingLeft() ? x - 20 : x + FRAME_W - 30,
+            store.y[id] + 20, 40, 60
+        );
+
+        if (atkBox.intersects(targetHitBox)) {
+            store.set(id, EntityStore.STRIKE_OPEN, false);
+            return true;
+        }
+        return false;
+    }
+
+    public void snapToGround(int groundHeight) {
+        store.y[id] = Math.max(0, groundHeight - FRAME_H + 30);
+    }
+
+    @Override
+    public Box getHitBox(Box out) {
+        out.setBounds(store.x[id], store.y[id], FRAME_W, FRAME_H);
+        return out;
+    }
+
+    // Hit box plus the attack box on either side
+    @Override
+    public Box getBroadBounds(Box out) {
+        out.setBounds(store.x[id] - 20, store.y[id], FRAME_W + 30, FRAME_H);
+        return out;
+    }
+}
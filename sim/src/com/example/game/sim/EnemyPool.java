@@ -0,0 +1,95 @@
+package com.example.game.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Minions that have vanished, kept for the next spawn. A pooled minion
+ * keeps its store handle, its clips and its cue listener; spawning it
+ * again only resets those, so a prewarmed pool spawns without
+ * constructing anything.
+ */
+public final class EnemyPool {
+    private final EntityStore store;
+    private final int worldWidth, worldHeight;
+    private final CueListener cues;
+    private final List<Enemy> created = new ArrayList<>();
+    private Enemy[] free = new Enemy[16];
+    private int freeCount = 0;
+    private int misses = 0;
+
+    public EnemyPool(EntityStore store, int worldWidth, int worldHeight, CueListener cues) {
+        this.store = store;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.cues = cues;
+    }
+
+    /** Constructs minions until {@code count} exist, so that many can be out at once without a miss. */
+    public void prewarm(int count) {
+        while (created.size() < count) {
+            Enemy e = construct();
+            e.vanish();
+            push(e);
+        }
+    }
+
+    /** A pooled minion, or a new one if the pool is empty, walking at {@code x} on the given ground. */
+    public Enemy obtain(int x, int groundHeight) {
+        Enemy e;
+        if (freeCount > 0) {
+            e = free[--freeCount];
+            free[freeCount] = null;
+        } else {
+            e = construct();
+            misses++;
+        }
+        e.respawn(x, groundHeight);
+        return e;
+    }
+
+    /** Takes back a vanished minion; the caller must have unfiled it from the grid. */
+    public void release(Enemy e) {
+        push(e);
+    }
+
+    private Enemy construct() {
+        Enemy e = new Enemy(store, 0);
+        e.setWorldBounds(worldWidth, worldHeight);
+        e.setCueListener(cues);
+        created.add(e);
+        return e;
+    }
+
+    private void push(Enemy e) {
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, freeCount * 2);
+        }
+        free[freeCount++] = e;
+    }
+
+    /** Forgets the pooled minions, once the simulation has disposed of them. */
+    void clear() {
+        Arrays.fill(free, 0, freeCount, null);
+        freeCount = 0;
+    }
+
+    /** Every minion this pool has made, pooled or out, in the order they were made. */
+    public int getCreatedCount() {
+        return created.size();
+    }
+
+    public Enemy getCreated(int i) {
+        return created.get(i);
+    }
+
+    public int getFreeCount() {
+        return freeCount;
+    }
+
+    /** Spawns that had to construct because the pool was empty. */
+    public int getMissCount() {
+        return misses;
+    }
+}
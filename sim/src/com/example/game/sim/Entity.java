@@ -0,0 +1,106 @@
+package com.example.game.sim;
+
+/**
+ * Object face of one {@link EntityStore} handle. Hot fields (position, stats,
+ * facing, vanished) live in the store's columns; only cold per-entity data
+ * such as animation clocks stays on the object.
+ */
+public abstract class Entity {
+    protected final EntityStore store;
+    protected final int id;
+    protected int worldWidth, worldHeight;
+    protected CueListener cues = CueListener.NONE;
+
+    // Bookkeeping for SpatialGrid
+    int gridX0, gridY0, gridX1, gridY1, gridStamp;
+    boolean gridFiled = false;
+
+    private boolean active = false;
+    private boolean disposed = false;
+
+    public Entity(EntityStore store, int maxHp, int atk, int def, int speed) {
+        this.store = store;
+        this.id = store.create(maxHp, atk, def, speed);
+    }
+
+    public int getId() { return id; }
+    public EntityStore getStore() { return store; }
+
+    // A disposed entity's handle may belong to someone else by now, so these stop reading it
+    public boolean isDead() { return disposed || store.hp[id] <= 0; }
+    public boolean isGone() { return disposed || store.has(id, EntityStore.VANISHED); }
+    public boolean isDisposed() { return disposed; }
+
+    public Lifecycle getLifecycle() {
+        if (disposed) return Lifecycle.DISPOSED;
+        if (isGone()) return Lifecycle.GONE;
+        if (isDead()) return Lifecycle.DYING;
+        return active ? Lifecycle.ACTIVE : Lifecycle.SPAWNED;
+    }
+
+    /** Called by the simulation once the entity has been through a step. */
+    void activate() {
+        active = true;
+    }
+
+    /** Back to SPAWNED, for an entity that is re-armed rather than made anew. */
+    void respawned() {
+        active = false;
+    }
+
+    /** Releases the store handle; after this the entity is dead, gone and must be dropped. */
+    void dispose() {
+        if (disposed) return;
+        disposed = true;
+        store.release(id);
+    }
+    public int getHp() { return store.hp[id]; }
+    public int getMaxHp() { return store.maxHp[id]; }
+    public int getAtk() { return store.atk[id]; }
+    public int getXPos() { return store.x[id]; }
+    public int getYPos() { return store.y[id]; }
+    public boolean isFacingLeft() { return store.has(id, EntityStore.FACING_LEFT); }
+
+    public void takeDamage(int dmg) {
+        if (isDead()) return;
+        int real = Math.max(1, dmg - store.def[id]);
+        store.hp[id] = Math.max(0, store.hp[id] - real);
+        if (store.hp[id] <= 0) onDeath();
+    }
+    
+    public void setPosition(int x, int y) {
+        store.x[id] = x;
+        store.y[id] = y;
+    }
+
+    protected void setFacingLeft(boolean left) {
+        store.set(id, EntityStore.FACING_LEFT, left);
+    }
+
+    protected void vanish() {
+        store.set(id, EntityStore.VANISHED, true);
+    }
+
+    public void setWorldBounds(int width, int height) {
+        this.worldWidth = width;
+        this.worldHeight = height;
+    }
+
+    public void setCueListener(CueListener cues) {
+        this.cues = cues;
+    }
+
+    protected abstract void onDeath();
+
+    /** Writes the hit box into {@code out} and returns it, so per-tick checks need not allocate. */
+    public abstract Box getHitBox(Box out);
+
+    public Box getHitBox() {
+        return getHitBox(new Box());
+    }
+
+    /** Everything this entity can touch, attack reach included; what {@link SpatialGrid} files it under. */
+    public Box getBroadBounds(Box out) {
+        return getHitBox(out);
+    }
+}
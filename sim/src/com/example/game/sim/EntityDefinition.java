@@ -0,0 +1,157 @@
+package com.example.game.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Declarative description of an animated entity's states: how many frames
+ * each state plays and at what interval, frames that fire events, and the state
+ * that follows when a one-shot animation ends. The builder compiles it
+ * into tables indexed by the state enum's ordinal, so ticking an entity
+ * is array reads rather than string lookups.
+ *
+ * <pre>
+ * EntityDefinition.builder(State.class)
+ *     .state(State.WALK, 8, 100)
+ *     .state(State.ATTACK, 3, 80).once().on(1, FrameEvent.STRIKE_OPEN).then(State.WALK)
+ *     .build();
+ * </pre>
+ *
+ * Only timing lives here; a renderer pairs each state with artwork that has
+ * {@link #getFrameCount} frames.
+ */
+public final class EntityDefinition<S extends Enum<S>> {
+    /** What an animation frame can signal to its entity. */
+    public enum FrameEvent { STRIKE_OPEN, STRIKE_CLOSE }
+
+    static final int NONE = -1;
+
+    private final S[] states;
+    final int[] frameCounts;
+    final int[] intervals;
+    final boolean[] loops;
+    final int[] next;
+    final int[][] eventFrames;            // [state][i] frame index
+    final FrameEvent[][] eventTypes;      // [state][i] event fired on that frame
+
+    private EntityDefinition(Builder<S> b) {
+        int n = b.states.length;
+        states = b.states;
+        frameCounts = new int[n];
+        intervals = new int[n];
+        loops = new boolean[n];
+        next = new int[n];
+        eventFrames = new int[n][];
+        eventTypes = new FrameEvent[n][];
+        for (int i = 0; i < n; i++) {
+            StateSpec spec = b.specs[i];
+            if (spec == null) {
+                throw new IllegalStateException("ไม่ได้กำหนดสถานะ: " + states[i]);
+            }
+            frameCounts[i] = spec.frames;
+            intervals[i] = spec.interval;
+            loops[i] = spec.loop;
+            next[i] = spec.next;
+            eventFrames[i] = spec.eventFrames.stream().mapToInt(Integer::intValue).toArray();
+            eventTypes[i] = spec.eventTypes.toArray(new FrameEvent[0]);
+        }
+    }
+
+    public static <S extends Enum<S>> Builder<S> builder(Class<S> type) {
+        return new Builder<>(type);
+    }
+
+    public int getStateCount() {
+        return states.length;
+    }
+
+    public S getState(int index) {
+        return states[index];
+    }
+
+    public int getFrameCount(S state) {
+        return frameCounts[state.ordinal()];
+    }
+
+    /** One playback cursor per state, in ordinal order; frame events go to {@code sink}. */
+    Clip[] createClips(AnimatedEntity<S> sink) {
+        Clip[] clips = new Clip[states.length];
+        for (int i = 0; i < states.length; i++) {
+            Clip clip = new Clip(frameCounts[i], intervals[i], loops[i]);
+            for (int e = 0; e < eventFrames[i].length; e++) {
+                FrameEvent event = eventTypes[i][e];
+                clip.onFrame(eventFrames[i][e], () -> sink.onFrameEvent(event));
+            }
+            clips[i] = clip;
+        }
+        return clips;
+    }
+
+    private static final class StateSpec {
+        Enum<?> state;
+        int frames;
+        int interval;
+        boolean loop = true;
+        int next = NONE;
+        final List<Integer> eventFrames = new ArrayList<>();
+        final List<FrameEvent> eventTypes = new ArrayList<>();
+    }
+
+    /** Each call after {@link #state} refines the state declared last. */
+    public static final class Builder<S extends Enum<S>> {
+        private final S[] states;
+        private final StateSpec[] specs;
+        private StateSpec current;
+
+        private Builder(Class<S> type) {
+            states = type.getEnumConstants();
+            specs = new StateSpec[states.length];
+        }
+
+        /** Declares a looping state. */
+        public Builder<S> state(S state, int frameCount, int frameIntervalMs) {
+            if (frameCount < 1) {
+                throw new IllegalArgumentException("จำนวนเฟรมต้องมากกว่า 0: " + state);
+            }
+            current = new StateSpec();
+            current.state = state;
+            current.frames = frameCount;
+            current.interval = frameIntervalMs;
+            specs[state.ordinal()] = current;
+            return this;
+        }
+
+        /** The animation plays once and holds its last frame. */
+        public Builder<S> once() {
+            current().loop = false;
+            return this;
+        }
+
+        public Builder<S> on(int frame, FrameEvent event) {
+            StateSpec spec = current();
+            if (frame < 0 || frame >= spec.frames) {
+                throw new IllegalArgumentException("เฟรม " + frame + " เกินจำนวนเฟรมของ " + spec.state);
+            }
+            spec.eventFrames.add(frame);
+            spec.eventTypes.add(event);
+            return this;
+        }
+
+        /** Where a one-shot state goes when its animation finishes. */
+        public Builder<S> then(S nextState) {
+            current().next = nextState.ordinal();
+            return this;
+        }
+
+        public EntityDefinition<S> build() {
+            return new EntityDefinition<>(this);
+        }
+
+        private StateSpec current() {
+            if (current == null) {
+                throw new IllegalStateException("ต้องเรียก state() ก่อน");
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.game.sim;
+
+/**
+ * Told when an entity moves through its {@link Lifecycle}, on the
+ * simulation thread: spawned (again, for a pooled minion), died, finished
+ * dying, and released for good.
+ */
+public interface EntityListener {
+    EntityListener NONE = new EntityListener() { };
+
+    default void onSpawn(Entity e) {
+    }
+
+    default void onDeath(Entity e) {
+    }
+
+    default void onGone(Entity e) {
+    }
+
+    /** The last call about {@code e}, just before its handle is released; drop everything attached to it. */
+    default void onDispose(Entity e) {
+    }
+
+    /** Tells this listener first, then {@code next}. */
+    default EntityListener andThen(EntityListener next) {
+        EntityListener first = this;
+        return new EntityListener() {
+            @Override
+            public void onSpawn(Entity e) {
+                first.onSpawn(e);
+                next.onSpawn(e);
+            }
+
+            @Override
+            public void onDeath(Entity e) {
+                first.onDeath(e);
+                next.onDeath(e);
+            }
+
+            @Override
+            public void onGone(Entity e) {
+                first.onGone(e);
+                next.onGone(e);
+            }
+
+            @Override
+            public void onDispose(Entity e) {
+                first.onDispose(e);
+                next.onDispose(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.game.sim;
+
+import java.util.Arrays;
+
+/**
+ * Hot per-entity simulation fields kept as parallel primitive arrays
+ * (struct of arrays), addressed by an int handle. Batch passes such as
+ * minion steering walk these columns directly instead of chasing one
+ * object per entity.
+ *
+ * Columns are reallocated when the store grows, so read them through the
+ * store each time rather than holding on to an array across {@link #create}.
+ */
+public class EntityStore {
+    // Bits in flags[]
+    public static final byte FACING_LEFT = 1;
+    public static final byte VANISHED = 2;
+    public static final byte STRIKE_OPEN = 4;
+    public static final byte DEATH_REPORTED = 8;
+    public static final byte GONE_REPORTED = 16;
+
+    public int[] x, y;
+    public int[] hp, maxHp, atk, def, speed;
+    /** Owner-defined AI state, e.g. the minion's walk/attack/death. */
+    public byte[] state;
+    public byte[] flags;
+
+    private int capacity;
+    private int highWater = 0;
+    private int[] free = new int[16];
+    private int freeCount = 0;
+
+    public EntityStore() {
+        this(64);
+    }
+
+    public EntityStore(int initialCapacity) {
+        capacity = Math.max(1, initialCapacity);
+        x = new int[capacity];
+        y = new int[capacity];
+        hp = new int[capacity];
+        maxHp = new int[capacity];
+        atk = new int[capacity];
+        def = new int[capacity];
+        speed = new int[capacity];
+        state = new byte[capacity];
+        flags = new byte[capacity];
+    }
+
+    /** Allocates a handle with full hp; released handles are reused first. */
+    public int create(int maxHp, int atk, int def, int speed) {
+        int id;
+        if (freeCount > 0) {
+            id = free[--freeCount];
+        } else {
+            if (highWater == capacity) grow();
+            id = highWater++;
+        }
+        this.x[id] = 0;
+        this.y[id] = 0;
+        this.hp[id] = maxHp;
+        this.maxHp[id] = maxHp;
+        this.atk[id] = atk;
+        this.def[id] = def;
+        this.speed[id] = speed;
+        this.state[id] = 0;
+        this.flags[id] = 0;
+        return id;
+    }
+
+    /** Returns a handle to the store; the caller must drop every reference to it. */
+    public void release(int id) {
+        flags[id] = VANISHED;
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, freeCount * 2);
+        }
+        free[freeCount++] = id;
+    }
+
+    public boolean has(int id, byte flag) {
+        return (flags[id] & flag) != 0;
+    }
+
+    public void set(int id, byte flag, boolean on) {
+        flags[id] = (byte) (on ? flags[id] | flag : flags[id] & ~flag);
+    }
+
+    /** Handles in use right now. */
+    public int getLiveCount() {
+        return highWater - freeCount;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void grow() {
+        capacity *= 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        hp = Arrays.copyOf(hp, capacity);
+        maxHp = Arrays.copyOf(maxHp, capacity);
+        atk = Arrays.copyOf(atk, capacity);
+        def = Arrays.copyOf(def, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        state = Arrays.copyOf(state, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.game.sim;
+
+/**
+ * Pickup the boss drops. Keeps its own frame clock and bob phase so the
+ * renderer only has to look them up.
+ */
+public class Gem {
+    public static final int FRAME_COUNT = 12;
+    /** Width and height of every gem frame. */
+    public static final int SIZE = 16;
+    public static final int BOB_AMP = 6;
+    private static final int FRAME_INTERVAL = 80;
+    private static final float BOB_SPEED = 0.06f;
+
+    private int frameIndex = 0;
+    private int frameElapsed = 0;
+    private int x, y;
+
+    // Bobbing animation
+    private float bobT = 0f;
+
+    private boolean picked = false;
+    private boolean vanished = false;
+    private CueListener cues = CueListener.NONE;
+
+    public Gem(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public void setCueListener(CueListener cues) {
+        this.cues = cues;
+    }
+
+    public void update(int dt) {
+        if (vanished) return;
+        frameElapsed += dt;
+        while (frameElapsed >= FRAME_INTERVAL) {
+            frameElapsed -= FRAME_INTERVAL;
+            frameIndex = (frameIndex + 1) % FRAME_COUNT;
+            bobT += BOB_SPEED;
+        }
+    }
+
+    public void setPosition(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public int getXPos() { return x; }
+    public int getYPos() { return y; }
+    public int getFrameIndex() { return frameIndex; }
+
+    /** Vertical offset of the bob right now, within ±{@link #BOB_AMP}. */
+    public int getBobOffset() {
+        return (int) Math.round(Math.sin(bobT) * BOB_AMP);
+    }
+
+    public Box getHitBox(Box out) {
+        int pad = SIZE / 6;
+        out.setBounds(x + pad, y + pad, SIZE - pad * 2, SIZE - pad * 2);
+        return out;
+    }
+
+    public boolean isPicked() {
+        return picked;
+    }
+
+    public boolean isGone() {
+        return vanished;
+    }
+
+    public void pick() {
+        if (picked) return;
+        cues.onCue(Cue.GEM_PICK);
+        picked = true;
+        vanished = true;
+    }
+}
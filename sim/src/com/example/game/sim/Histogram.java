@@ -0,0 +1,84 @@
+package com.example.game.sim;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-bucket histogram of non-negative longs (durations in nanoseconds).
+ * Buckets are log-linear: every power of two is split into 16 equal parts,
+ * so a percentile is exact to within about 6%. Recording is an array
+ * increment; nothing allocates after construction.
+ */
+public final class Histogram {
+    private static final int SUB_BITS = 4;
+    private static final int SUB = 1 << SUB_BITS;
+    private static final int MAX_EXP = 40;   // 2^41 ns is over half an hour
+    static final int BUCKETS = (MAX_EXP - SUB_BITS + 2) * SUB;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count = 0;
+    private long max = 0;
+
+    public Histogram() {
+    }
+
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts[bucket(value)]++;
+        count++;
+        if (value > max) max = value;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Smallest recorded value bound such that {@code fraction} of the
+     * samples are at or below it, e.g. 0.99 for p99. 0 when empty.
+     */
+    public long percentile(double fraction) {
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, upperBound(i));
+            }
+        }
+        return max;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        max = 0;
+    }
+
+    public void copyFrom(Histogram other) {
+        System.arraycopy(other.counts, 0, counts, 0, BUCKETS);
+        count = other.count;
+        max = other.max;
+    }
+
+    static int bucket(long value) {
+        if (value < SUB) return (int) value;
+        int exp = 63 - Long.numberOfLeadingZeros(value);
+        if (exp > MAX_EXP) return BUCKETS - 1;
+        int sub = (int) (value >>> (exp - SUB_BITS)) & (SUB - 1);
+        return (exp - SUB_BITS + 1) * SUB + sub;
+    }
+
+    // Largest value that falls in the bucket
+    static long upperBound(int bucket) {
+        if (bucket < SUB) return bucket;
+        int exp = bucket / SUB + SUB_BITS - 1;
+        int sub = bucket % SUB;
+        long width = 1L << (exp - SUB_BITS);
+        return ((long) (SUB + sub) << (exp - SUB_BITS)) + width - 1;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.game.sim;
+
+import java.util.Arrays;
+
+/**
+ * Key presses and releases gathered between two steps, in arrival order.
+ * Order matters: press-release-press within one step is two attacks, not
+ * one held key. {@link Simulation#step} applies and clears the buffer.
+ */
+public final class Input {
+    private static final Key[] KEYS = Key.values();
+
+    private byte[] keys = new byte[8];
+    private boolean[] pressed = new boolean[8];
+    private int count = 0;
+
+    public Input() {
+    }
+
+    public void press(Key key) {
+        add(key, true);
+    }
+
+    public void release(Key key) {
+        add(key, false);
+    }
+
+    private void add(Key key, boolean press) {
+        if (count == keys.length) {
+            keys = Arrays.copyOf(keys, count * 2);
+            pressed = Arrays.copyOf(pressed, count * 2);
+        }
+        keys[count] = (byte) key.ordinal();
+        pressed[count] = press;
+        count++;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public Key getKey(int i) {
+        return KEYS[keys[i]];
+    }
+
+    public boolean isPress(int i) {
+        return pressed[i];
+    }
+
+    public void clear() {
+        count = 0;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.game.sim;
+
+import java.io.*;
+import java.util.Arrays;
+
+/**
+ * A played session as data: every key event stamped with the tick it was
+ * applied on, plus the {@link Simulation#checksum() state checksum} after
+ * each tick. Fed back through {@link InputReplayer} it reproduces the
+ * session exactly, whatever the wall clock does.
+ *
+ * <p>Binary layout (big-endian): magic {@code "LOCR"}, version, world
+ * width, height and ground height; a horde byte, 0 for none, else 1 and
+ * the {@link WaveSpawner} settings (waves, first wave, growth, per tick,
+ * delay, max alive) as ints; tick count, event count; then each
+ * event as a varint tick delta and one byte {@code key << 1 | pressed};
+ * then one long checksum per tick.
+ */
+public final class InputLog {
+    private static final int MAGIC = 0x4C4F4352;   // "LOCR"
+    private static final int VERSION = 4;   // 4: horde settings in the header
+
+    private final int worldWidth, worldHeight, groundHeight;
+    private final WaveSpawner horde;   // settings only, never stepped; null without horde mode
+    private long[] eventTicks = new long[64];
+    private byte[] eventCodes = new byte[64];
+    private int eventCount = 0;
+    private long[] checksums = new long[1024];
+    private int tickCount = 0;
+
+    /** {@code groundHeight} is what the session passed to {@link Simulation#snapToGround}. */
+    public InputLog(int worldWidth, int worldHeight, int groundHeight) {
+        this(worldWidth, worldHeight, groundHeight, null);
+    }
+
+    /** {@code horde} is the session's spawner, or null; only its settings are kept. */
+    public InputLog(int worldWidth, int worldHeight, int groundHeight, WaveSpawner horde) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.groundHeight = groundHeight;
+        this.horde = horde != null ? horde.copySettings() : null;
+    }
+
+    /** A fresh simulation set up the way the recorded one started. */
+    public Simulation newSimulation(CueListener cues, EntityListener lifecycle) {
+        Simulation sim = new Simulation(worldWidth, worldHeight, cues, lifecycle);
+        sim.snapToGround(groundHeight);
+        sim.setWaveSpawner(newWaveSpawner());
+        return sim;
+    }
+
+    /** A fresh spawner with the recorded horde settings, or null if the session had none. */
+    public WaveSpawner newWaveSpawner() {
+        return horde != null ? horde.copySettings() : null;
+    }
+
+    void addEvent(long tick, Key key, boolean pressed) {
+        if (eventCount == eventTicks.length) {
+            eventTicks = Arrays.copyOf(eventTicks, eventCount * 2);
+            eventCodes = Arrays.copyOf(eventCodes, eventCount * 2);
+        }
+        eventTicks[eventCount] = tick;
+        eventCodes[eventCount] = (byte) (key.ordinal() << 1 | (pressed ? 1 : 0));
+        eventCount++;
+    }
+
+    void addChecksum(long checksum) {
+        if (tickCount == checksums.length) {
+            checksums = Arrays.copyOf(checksums, tickCount * 2);
+        }
+        checksums[tickCount++] = checksum;
+    }
+
+    public int getWorldWidth() { return worldWidth; }
+    public int getWorldHeight() { return worldHeight; }
+    public int getGroundHeight() { return groundHeight; }
+    public int getTickCount() { return tickCount; }
+    public int getEventCount() { return eventCount; }
+
+    long getEventTick(int i) { return eventTicks[i]; }
+    Key getEventKey(int i) { return Key.values()[eventCodes[i] >> 1]; }
+    boolean isEventPress(int i) { return (eventCodes[i] & 1) != 0; }
+    long getChecksum(int tick) { return checksums[tick]; }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeInt(worldWidth);
+        data.writeInt(worldHeight);
+        data.writeInt(groundHeight);
+        if (horde == null) {
+            data.writeByte(0);
+        } else {
+            data.writeByte(1);
+            data.writeInt(horde.getWaveCount());
+            data.writeInt(horde.getFirstWave());
+            data.writeInt(horde.getGrowth());
+            data.writeInt(horde.getPerTick());
+            data.writeInt(horde.getDelayMs());
+            data.writeInt(horde.getMaxAlive());
+        }
+        data.writeInt(tickCount);
+        data.writeInt(eventCount);
+        long prev = 0;
+        for (int i = 0; i < eventCount; i++) {
+            writeVarLong(data, eventTicks[i] - prev);
+            data.writeByte(eventCodes[i]);
+            prev = eventTicks[i];
+        }
+        for (int i = 0; i < tickCount; i++) {
+            data.writeLong(checksums[i]);
+        }
+        data.flush();
+    }
+
+    public static InputLog read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("ไม่ใช่ไฟล์บันทึกอินพุต");
+        }
+        int version = data.readShort();
+        if (version != VERSION) {
+            throw new IOException("ไม่รองรับไฟล์บันทึกอินพุตรุ่น " + version);
+        }
+        int worldWidth = data.readInt(), worldHeight = data.readInt(), groundHeight = data.readInt();
+        WaveSpawner horde = null;
+        if (data.readByte() != 0) {
+            horde = new WaveSpawner().waves(data.readInt()).firstWave(data.readInt()).growth(data.readInt())
+                    .perTick(data.readInt()).delayMs(data.readInt()).maxAlive(data.readInt());
+        }
+        InputLog log = new InputLog(worldWidth, worldHeight, groundHeight, horde);
+        int ticks = data.readInt();
+        int events = data.readInt();
+        long tick = 0;
+        int keys = Key.values().length;
+        for (int i = 0; i < events; i++) {
+            tick += readVarLong(data);
+            byte code = data.readByte();
+            if ((code >> 1) >= keys || code < 0) {
+                throw new IOException("ปุ่มในไฟล์บันทึกไม่ถูกต้อง: " + code);
+            }
+            log.addEvent(tick, Key.values()[code >> 1], (code & 1) != 0);
+        }
+        for (int i = 0; i < ticks; i++) {
+            log.addChecksum(data.readLong());
+        }
+        return log;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long v) throws IOException {
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) (v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return v;
+        }
+        throw new IOException("varint ยาวเกินไป");
+    }
+}
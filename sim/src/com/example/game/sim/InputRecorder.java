@@ -0,0 +1,33 @@
+package com.example.game.sim;
+
+/**
+ * Steps a simulation and writes down what happened: the input applied on
+ * each tick and the state checksum after it. Use in place of calling
+ * {@link Simulation#step} directly.
+ */
+public final class InputRecorder {
+    private final Simulation sim;
+    private final InputLog log;
+
+    /** {@code sim} must not have stepped yet; {@code groundHeight} is what it was snapped to. */
+    public InputRecorder(Simulation sim, int groundHeight) {
+        if (sim.getTick() != 0) {
+            throw new IllegalStateException("ต้องเริ่มบันทึกตั้งแต่ tick แรก");
+        }
+        this.sim = sim;
+        this.log = new InputLog(sim.getWorldWidth(), sim.getWorldHeight(), groundHeight, sim.getWaveSpawner());
+    }
+
+    public void step(Input input) {
+        long tick = sim.getTick();
+        for (int i = 0, n = input.size(); i < n; i++) {
+            log.addEvent(tick, input.getKey(i), input.isPress(i));
+        }
+        sim.step(input);
+        log.addChecksum(sim.checksum());
+    }
+
+    public InputLog getLog() {
+        return log;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.game.sim;
+
+/**
+ * Plays an {@link InputLog} back into a fresh simulation one tick per
+ * {@link #step}, checking the state checksum after every tick. The first
+ * mismatch is remembered: from there on the run is no longer the recorded
+ * one, so timings past it do not compare.
+ */
+public final class InputReplayer {
+    private final InputLog log;
+    private final Simulation sim;
+    private final Input input = new Input();
+    private int nextEvent = 0;
+    private long divergedAt = -1;
+
+    /** {@code sim} should come from {@link InputLog#newSimulation}. */
+    public InputReplayer(InputLog log, Simulation sim) {
+        if (sim.getTick() != 0) {
+            throw new IllegalStateException("ต้องเล่นซ้ำกับ Simulation ที่ยังไม่เริ่ม");
+        }
+        this.log = log;
+        this.sim = sim;
+    }
+
+    public boolean isFinished() {
+        return sim.getTick() >= log.getTickCount();
+    }
+
+    /** Steps once with the recorded input; past the end of the log it steps with none. */
+    public void step() {
+        long tick = sim.getTick();
+        while (nextEvent < log.getEventCount() && log.getEventTick(nextEvent) == tick) {
+            if (log.isEventPress(nextEvent)) input.press(log.getEventKey(nextEvent));
+            else input.release(log.getEventKey(nextEvent));
+            nextEvent++;
+        }
+        sim.step(input);
+        if (divergedAt < 0 && tick < log.getTickCount() && sim.checksum() != log.getChecksum((int) tick)) {
+            divergedAt = tick;
+        }
+    }
+
+    /** The first tick whose state did not match the recording, or -1. */
+    public long getDivergedTick() {
+        return divergedAt;
+    }
+
+    public Simulation getSimulation() {
+        return sim;
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.game.sim;
+
+/** Game buttons, independent of the keyboard layout that drives them. */
+public enum Key { LEFT, RIGHT, ATTACK }
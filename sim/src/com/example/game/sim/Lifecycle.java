@@ -0,0 +1,19 @@
+package com.example.game.sim;
+
+/**
+ * Where an entity is in its life, as {@link Entity#getLifecycle()} reports
+ * it. A pooled minion goes round SPAWNED to GONE many times; only
+ * {@link Simulation#close()} or a boss's exit takes an entity to DISPOSED.
+ */
+public enum Lifecycle {
+    /** Created or respawned; not stepped yet. */
+    SPAWNED,
+    /** Alive and stepped at least once. */
+    ACTIVE,
+    /** Out of HP, playing its death. */
+    DYING,
+    /** Finished dying; no longer updated, drawn or hit. */
+    GONE,
+    /** Store handle and grid filing released; the object must not be used again. */
+    DISPOSED
+}
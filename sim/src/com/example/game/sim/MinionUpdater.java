@@ -0,0 +1,156 @@
+package com.example.game.sim;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steers and updates the minions, split into contiguous batches that run
+ * on a fork-join pool once there are enough of them to pay for it.
+ *
+ * <p>A minion's think-and-move step only touches its own store slots and
+ * clips, so batches are independent. The one shared thing is sound: while
+ * a batch runs, its minions report cues into that batch's buffer, and the
+ * buffers are flushed in batch order afterwards. That is the order a serial
+ * pass reports them in. Damage and deaths are not applied here at all;
+ * {@link Simulation} resolves combat single-threaded after this. So a
+ * parallel step ends in exactly the state a serial one does.
+ */
+public final class MinionUpdater implements AutoCloseable {
+    /** Minions per batch; below two batches' worth everything runs on the caller. */
+    public static final int BATCH_SIZE = 64;
+
+    private final ForkJoinPool pool;
+    private Batch[] batches = new Batch[0];
+
+    // Inputs of the step in progress, read by the batches
+    private EntityStore store;
+    private List<Enemy> minions;
+    private int[] ids;
+    private int targetX, dt;
+    private CueListener cues;
+
+    /** {@code threads} <= 1 keeps every update on the caller thread. */
+    public MinionUpdater(int threads) {
+        this.pool = threads > 1 ? new ForkJoinPool(threads) : null;
+    }
+
+    public int getThreads() {
+        return pool != null ? pool.getParallelism() : 1;
+    }
+
+    /**
+     * One {@link Enemy#steerAll steering pass} plus {@link Enemy#update} for
+     * the first {@code count} minions, whose store ids are {@code ids}.
+     * Their sounds reach {@code cues} on this thread, in minion order.
+     */
+    public void update(EntityStore store, List<Enemy> minions, int[] ids, int count, int targetX, int dt, CueListener cues) {
+        if (pool == null || count < 2 * BATCH_SIZE) {
+            Enemy.steerAll(store, ids, 0, count, targetX);
+            for (int i = 0; i < count; i++) {
+                minions.get(i).update(dt);
+            }
+            return;
+        }
+        this.store = store;
+        this.minions = minions;
+        this.ids = ids;
+        this.targetX = targetX;
+        this.dt = dt;
+        this.cues = cues;
+
+        int n = (count + BATCH_SIZE - 1) / BATCH_SIZE;
+        ensureBatches(n);
+        for (int b = 0; b < n; b++) {
+            batches[b].reinitialize();
+            batches[b].to = Math.min(count, (b + 1) * BATCH_SIZE);
+        }
+        for (int b = 1; b < n; b++) {
+            pool.execute(batches[b]);
+        }
+        batches[0].invoke();   // the caller takes the first batch itself
+        for (int b = 1; b < n; b++) {
+            batches[b].join();
+        }
+
+        // Resolve: sounds in the order a serial pass makes them
+        for (int b = 0; b < n; b++) {
+            batches[b].sounds.flushTo(cues);
+        }
+        this.store = null;
+        this.minions = null;
+        this.cues = null;
+    }
+
+    private void ensureBatches(int n) {
+        if (batches.length >= n) return;
+        int old = batches.length;
+        batches = Arrays.copyOf(batches, n);
+        for (int b = old; b < n; b++) {
+            batches[b] = new Batch(b * BATCH_SIZE);
+        }
+    }
+
+    /** Stops the worker threads, waiting a moment for them to exit. */
+    @Override
+    public void close() {
+        if (pool == null) return;
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Worker threads still running; 0 once closed. */
+    public int getLiveThreads() {
+        return pool == null || pool.isTerminated() ? 0 : pool.getPoolSize();
+    }
+
+    @SuppressWarnings("serial")
+    private final class Batch extends RecursiveAction {
+        final int from;
+        int to;
+        final CueBuffer sounds = new CueBuffer();
+
+        Batch(int from) {
+            this.from = from;
+        }
+
+        @Override
+        protected void compute() {
+            Enemy.steerAll(store, ids, from, to, targetX);
+            for (int i = from; i < to; i++) {
+                Enemy e = minions.get(i);
+                e.setCueListener(sounds);
+                e.update(dt);
+                e.setCueListener(cues);
+            }
+        }
+    }
+
+    /** Cues held back until the resolve phase. */
+    private static final class CueBuffer implements CueListener {
+        private Cue[] cues = new Cue[16];
+        private int count = 0;
+
+        @Override
+        public void onCue(Cue cue) {
+            if (count == cues.length) {
+                cues = Arrays.copyOf(cues, count * 2);
+            }
+            cues[count++] = cue;
+        }
+
+        void flushTo(CueListener out) {
+            for (int i = 0; i < count; i++) {
+                out.onCue(cues[i]);
+                cues[i] = null;
+            }
+            count = 0;
+        }
+    }
+}
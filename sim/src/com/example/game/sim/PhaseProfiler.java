@@ -0,0 +1,75 @@
+package com.example.game.sim;
+
+/**
+ * Times named phases with {@link System#nanoTime} into one {@link Histogram}
+ * each. Samples go into the current window; {@link #roll} publishes it as
+ * the last complete window, which is what readers should show. Single
+ * threaded and allocation-free once built.
+ *
+ * <pre>
+ * profiler.begin();
+ * updateEntities();  profiler.lap(ENTITIES);
+ * handleCombat();    profiler.lap(COMBAT);
+ * </pre>
+ */
+public final class PhaseProfiler {
+    private final String[] names;
+    private final Histogram[] current;
+    private final Histogram[] window;
+    private final long[] last;
+    private long mark;
+
+    public PhaseProfiler(String... names) {
+        this.names = names.clone();
+        current = new Histogram[names.length];
+        window = new Histogram[names.length];
+        last = new long[names.length];
+        for (int i = 0; i < names.length; i++) {
+            current[i] = new Histogram();
+            window[i] = new Histogram();
+        }
+    }
+
+    /** Starts the clock for the first {@link #lap}. */
+    public void begin() {
+        mark = System.nanoTime();
+    }
+
+    /** Charges the time since the previous begin or lap to {@code phase}. */
+    public void lap(int phase) {
+        long now = System.nanoTime();
+        record(phase, now - mark);
+        mark = now;
+    }
+
+    public void record(int phase, long nanos) {
+        current[phase].record(nanos);
+        last[phase] = nanos;
+    }
+
+    /** The most recent sample for {@code phase}, in nanoseconds. */
+    public long getLast(int phase) {
+        return last[phase];
+    }
+
+    /** Makes the current window the one readers see and starts a new one. */
+    public void roll() {
+        for (int i = 0; i < names.length; i++) {
+            window[i].copyFrom(current[i]);
+            current[i].clear();
+        }
+    }
+
+    public int getPhaseCount() {
+        return names.length;
+    }
+
+    public String getName(int phase) {
+        return names[phase];
+    }
+
+    /** The last complete window for {@code phase}; empty until the first roll. */
+    public Histogram getWindow(int phase) {
+        return window[phase];
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.game.sim;
+
+public class Player extends AnimatedEntity<Player.State> {
+    public static final int FRAME_W = 240;
+    public static final int FRAME_H = 160;
+
+    public enum State { IDLE, RUN, ATTACK1, ATTACK2, DEATH }
+
+    private static final int HIT_FRAME_ATK1 = 2;
+    private static final int HIT_FRAME_ATK2 = 3;
+    private static final int COMBO_GRACE_MS = 150;
+    
+    // Attack speed intervals
+    private static final int NORMAL_ATK_INTERVAL = 50;   // ความเร็วปกติ
+    private static final int DEBUFF_ATK_INTERVAL = 90;   // ช้าลง 1.8 เท่า
+
+    // Attacks hold their last frame; update() picks combo or move state
+    public static final EntityDefinition<State> DEFINITION = EntityDefinition.builder(State.class)
+            .state(State.IDLE, 10, 120)
+            .state(State.RUN, 10, 50)
+            .state(State.ATTACK1, 4, NORMAL_ATK_INTERVAL).once()
+                .on(HIT_FRAME_ATK1, EntityDefinition.FrameEvent.STRIKE_OPEN)
+            .state(State.ATTACK2, 6, NORMAL_ATK_INTERVAL).once()
+                .on(HIT_FRAME_ATK2, EntityDefinition.FrameEvent.STRIKE_OPEN)
+            .state(State.DEATH, 10, 90).once()
+            .build();
+    
+    private static final int INVINCIBLE_MS = 800;
+    private boolean invincible = false;
+    private int invincibleElapsed = 0;
+    
+    // ✅ Debuff system
+    private boolean isDebuffed = false;
+    
+    private boolean leftPressed = false;
+    private boolean rightPressed = false;
+    private boolean comboQueued = false;
+    private int comboGraceRemain = 0;
+    private boolean strikeReady = false;
+
+    public Player(EntityStore store) {
+        super(store, DEFINITION, 100, 15, 3, 8);
+        setState(State.IDLE);
+    }
+
+    @Override
+    protected void onFrameEvent(EntityDefinition.FrameEvent event) {
+        if (event == EntityDefinition.FrameEvent.STRIKE_OPEN) {
+            strikeReady = true;
+        }
+    }
+
+    public void setDebuffed(boolean debuffed) {
+        if (this.isDebuffed != debuffed) {
+            this.isDebuffed = debuffed;
+            updateAttackSpeed();
+            cues.onCue(debuffed ? Cue.PLAYER_CURSED : Cue.PLAYER_UNCURSED);
+        }
+    }
+    
+    public boolean isDebuffed() {
+        return isDebuffed;
+    }
+    
+    // อัปเดตความเร็วโจมตี
+    private void updateAttackSpeed() {
+        float rate = isDebuffed ? (float) NORMAL_ATK_INTERVAL / DEBUFF_ATK_INTERVAL : 1f;
+        getAnimation(State.ATTACK1).setPlaybackRate(rate);
+        getAnimation(State.ATTACK2).setPlaybackRate(rate);
+    }
+
+    public void onKeyPressed(Key key) {
+        if (inState(State.DEATH)) return;
+        
+        switch (key) {
+            case LEFT -> {
+                leftPressed = true;
+                setFacingLeft(true);
+            }
+            case RIGHT -> {
+                rightPressed = true;
+                setFacingLeft(false);
+            }
+            case ATTACK -> attack();
+        }
+    }
+
+    public void onKeyReleased(Key key) {
+        if (key == Key.LEFT) leftPressed = false;
+        if (key == Key.RIGHT) rightPressed = false;
+    }
+
+    private void attack() {
+        switch (getState()) {
+            case ATTACK1 -> comboQueued = true;
+            case ATTACK2 -> { }
+            default -> startAttack(comboGraceRemain > 0 ? State.ATTACK2 : State.ATTACK1);
+        }
+    }
+
+    private void startAttack(State attackState) {
+        setState(attackState);
+        comboQueued = false;
+        strikeReady = false;
+        if (attackState == State.ATTACK2) {
+            comboGraceRemain = 0;
+        }
+        cues.onCue(Cue.PLAYER_SWORD);
+    }
+
+    @Override
+    public void takeDamage(int dmg) {
+        if (isDead() || invincible) {
+            return;
+        }
+        
+        int real = Math.max(1, dmg - store.def[id]);
+        store.hp[id] = Math.max(0, store.hp[id] - real);
+        
+        invincible = true;
+        invincibleElapsed = 0;
+        
+        if (store.hp[id] <= 0) onDeath();
+    }
+
+    @Override
+    protected void onDeath() {
+        setState(State.DEATH);
+        cues.onCue(Cue.PLAYER_DEATH);
+    }
+
+    @Override
+    public void update(int dt) {
+        if (invincible) {
+            invincibleElapsed += dt;
+            if (invincibleElapsed >= INVINCIBLE_MS) {
+                invincible = false;
+                invincibleElapsed = 0;
+            }
+        }
+        
+        switch (getState()) {
+            case IDLE, RUN -> {
+                if (leftPressed ^ rightPressed) {
+                    store.x[id] += leftPressed ? -store.speed[id] : store.speed[id];
+                    setState(State.RUN);
+                } else {
+                    setState(State.IDLE);
+                }
+                clampPosition();
+            }
+            default -> { }
+        }
+
+        if (comboGraceRemain > 0) {
+            comboGraceRemain = Math.max(0, comboGraceRemain - dt);
+        }
+
+        if (updateAnimation(dt)) {
+            switch (getState()) {
+                case ATTACK1 -> {
+                    comboGraceRemain = COMBO_GRACE_MS;
+                    if (comboQueued) {
+                        startAttack(State.ATTACK2);
+                    } else {
+                        backToMoveState();
+                    }
+                }
+                case ATTACK2 -> backToMoveState();
+                case DEATH -> vanish();
+                default -> { }
+            }
+        }
+    }
+
+    private void backToMoveState() {
+        setState((leftPressed || rightPressed) ? State.RUN : State.IDLE);
+        comboQueued = false;
+        comboGraceRemain = 0;
+    }
+
+    private void clampPosition() {
+        if (worldWidth <= 0 || worldHeight <= 0) return;
+
+        store.x[id] = Math.max(0, Math.min(store.x[id], worldWidth - FRAME_W));
+        store.y[id] = Math.max(0, worldHeight - FRAME_H - 50);
+    }
+
+    public boolean isAttacking() { 
+        return inState(State.ATTACK1) || inState(State.ATTACK2); 
+    }
+    
+    public boolean isInAttack2() { 
+        return inState(State.ATTACK2); 
+    }
+    
+    /**
+     * True once per swing, on the tick the attack animation reaches its hit frame.
+     */
+    public boolean consumeStrike() {
+        boolean ready = strikeReady && isAttacking();
+        strikeReady = false;
+        return ready;
+    }
+    
+    public boolean isInvulnerable() {
+        return invincible || isDead();
+    }
+
+    /** Milliseconds into the post-hit invincibility, or -1 outside it; renderers blink on it. */
+    public int getInvincibleElapsed() {
+        return invincible ? invincibleElapsed : -1;
+    }
+
+    @Override
+    public Box getHitBox(Box out) {
+        out.setBounds(store.x[id], store.y[id], FRAME_W - 60, FRAME_H - 20);
+        return out;
+    }
+
+    public void forceSnapToGround(int panelH, int groundMargin) {
+        if (panelH > 0) {
+            store.y[id] = Math.max(0, panelH - FRAME_H - groundMargin);
+        }
+    }
+}
\ No newline at end of file
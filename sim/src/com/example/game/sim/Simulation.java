@@ -0,0 +1,464 @@
+package com.example.game.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The game rules with nothing to show: entities, gate, cursed zone, combat,
+ * gem drop and win/lose. It advances only through {@link #step}, one fixed
+ * tick per call, so it runs the same behind a window, in a test or in a
+ * benchmark. Sounds leave as {@link Cue}s; everything else a front end
+ * needs is read back through the getters after a step.
+ */
+public class Simulation implements AutoCloseable {
+    public static final int STEP_MS = 16;
+
+    // World constants
+    public static final int GROUND_MARGIN = 50;
+    public static final int WORLD_LEFT = 0;
+    public static final int WORLD_HALF_R = 928;
+    public static final int WORLD_RIGHT = 1952;
+    private static final int[] SPAWN_X = {520, 700, 860};
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // Phases of step(), in order, for the profiler
+    public static final int P_ENTITIES = 0, P_GATE = 1, P_BOUNDS = 2, P_DEBUFF = 3,
+            P_GRID = 4, P_COMBAT = 5, P_GEM = 6, P_END = 7;
+
+    private final int worldWidth, worldHeight;
+    private final CueListener cues;
+    private final EntityListener lifecycle;
+
+    // Entities
+    private final EntityStore store = new EntityStore();
+    private final SpatialGrid grid;
+    private final Player player;
+    private final ArrayList<Enemy> enemies = new ArrayList<>();   // out now, in spawn order
+    private int[] enemyIds = new int[16];
+    private final List<Enemy> enemiesView = Collections.unmodifiableList(enemies);
+    private final EnemyPool enemyPool;
+    private WaveSpawner spawner;
+    private int minionGround;
+    private volatile int minionsAlive;
+    private MinionUpdater minionUpdater = new MinionUpdater(1);
+    private final Cthulu boss;
+    private Gem gem = null;
+    private final Box playerBox = new Box();
+    private final Box otherBox = new Box();
+    private final PhaseProfiler profiler = new PhaseProfiler(
+            "entities", "gate", "bounds", "debuff", "grid", "combat", "gem", "end");
+
+    private long tick = 0;
+    private boolean closed = false;
+    private boolean gameWon = false;
+    private boolean gameDefeated = false;
+
+    // Gate system
+    private boolean leftHalfCleared = false;
+    private boolean bossActivated = false;
+
+    public Simulation(int worldWidth, int worldHeight) {
+        this(worldWidth, worldHeight, CueListener.NONE);
+    }
+
+    public Simulation(int worldWidth, int worldHeight, CueListener cues) {
+        this(worldWidth, worldHeight, cues, EntityListener.NONE);
+    }
+
+    public Simulation(int worldWidth, int worldHeight, CueListener cues, EntityListener lifecycle) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.cues = cues;
+        this.lifecycle = lifecycle;
+        grid = new SpatialGrid(worldWidth, worldHeight);
+
+        // Create player
+        player = new Player(store);
+        adopt(player);
+
+        lifecycle.onSpawn(player);
+
+        // Create enemies
+        enemyPool = new EnemyPool(store, worldWidth, worldHeight, cues);
+        enemyPool.prewarm(SPAWN_X.length);
+        minionGround = worldHeight;
+        for (int x : SPAWN_X) {
+            spawnMinion(x);
+        }
+
+        // Create boss
+        boss = new Cthulu(store, player);
+        adopt(boss);
+        boss.setPosition(WORLD_RIGHT - Cthulu.FRAME_W, worldHeight - Cthulu.FRAME_H - GROUND_MARGIN + 35);
+        lifecycle.onSpawn(boss);
+        minionsAlive = enemies.size();
+    }
+
+    private void adopt(Entity e) {
+        e.setWorldBounds(worldWidth, worldHeight);
+        e.setCueListener(cues);
+    }
+
+    private void spawnMinion(int x) {
+        Enemy e = enemyPool.obtain(x, minionGround);
+        if (enemies.size() == enemyIds.length) {
+            enemyIds = Arrays.copyOf(enemyIds, enemyIds.length * 2);
+        }
+        enemyIds[enemies.size()] = e.getId();
+        enemies.add(e);
+        lifecycle.onSpawn(e);
+    }
+
+    /**
+     * Turns on horde mode: after the first three, minions keep coming in
+     * the spawner's waves, and the gate waits for all of them. Prewarms the
+     * pool for the spawner's {@link WaveSpawner#getMaxAlive() maxAlive}, so
+     * call it before the first step rather than mid-fight. {@code null}
+     * turns horde mode back off.
+     */
+    public void setWaveSpawner(WaveSpawner spawner) {
+        this.spawner = spawner;
+        if (spawner == null) return;
+        int most = spawner.getMaxAlive() + SPAWN_X.length;
+        enemyPool.prewarm(most);
+        enemies.ensureCapacity(most);
+        enemyIds = Arrays.copyOf(enemyIds, Math.max(enemyIds.length, most));
+    }
+
+    public WaveSpawner getWaveSpawner() {
+        return spawner;
+    }
+
+    /**
+     * Spreads the minion update over {@code threads} worker threads; 1 (the
+     * default) keeps it on the caller. Either way a step gives the same
+     * state and the same cues in the same order.
+     */
+    public void setUpdateThreads(int threads) {
+        if (threads == minionUpdater.getThreads()) return;
+        minionUpdater.close();
+        minionUpdater = new MinionUpdater(threads);
+    }
+
+    /**
+     * Puts the player on the world's ground and the minions on the ground of
+     * a view {@code viewHeight} tall, as the window has always done once it
+     * knows its size.
+     */
+    public void snapToGround(int viewHeight) {
+        player.forceSnapToGround(worldHeight, GROUND_MARGIN);
+        minionGround = viewHeight;
+        for (Enemy e : enemies) {
+            e.snapToGround(viewHeight);
+        }
+    }
+
+    /** Applies the buffered input, then advances one {@link #STEP_MS} tick; the buffer is cleared. */
+    public void step(Input input) {
+        if (closed) {
+            throw new IllegalStateException("Simulation ถูกปิดแล้ว");
+        }
+        for (int i = 0, n = input.size(); i < n; i++) {
+            if (input.isPress(i)) player.onKeyPressed(input.getKey(i));
+            else player.onKeyReleased(input.getKey(i));
+        }
+        input.clear();
+
+        profiler.begin();
+        updateEntities(STEP_MS);
+        profiler.lap(P_ENTITIES);
+        spawnWave();
+        updateGateLogic();
+        profiler.lap(P_GATE);
+        updatePlayerBounds();
+        profiler.lap(P_BOUNDS);
+        updateDebuffZone();
+        profiler.lap(P_DEBUFF);
+        updateGrid();
+        profiler.lap(P_GRID);
+        handleCombat();
+        reportDeaths();
+        profiler.lap(P_COMBAT);
+        handleGemSpawn();
+        profiler.lap(P_GEM);
+        handleGameEnd();
+        updateLifecycles();
+        profiler.lap(P_END);
+        tick++;
+    }
+
+    // Fixed order: player first, then minions, boss and pickups react to it
+    private void updateEntities(int dt) {
+        player.update(dt);
+        minionUpdater.update(store, enemies, enemyIds, enemies.size(), player.getXPos(), dt, cues);
+        if (!boss.isDisposed()) {
+            boss.update(dt);
+        }
+        if (gem != null) {
+            gem.update(dt);
+        }
+    }
+
+    private void spawnWave() {
+        if (spawner == null || leftHalfCleared) return;
+        int n = spawner.step(STEP_MS, enemies.size());
+        for (int i = 0; i < n; i++) {
+            spawnMinion(spawner.nextSpawnX(WORLD_LEFT, WORLD_HALF_R - Enemy.FRAME_W));
+        }
+    }
+
+    private void updateGateLogic() {
+        int alive = 0;
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            if (!enemies.get(i).isDead()) alive++;
+        }
+        minionsAlive = alive;
+        if (!leftHalfCleared) {
+            if (alive == 0 && (spawner == null || spawner.isFinished())) {
+                leftHalfCleared = true;
+                if (!bossActivated) {
+                    boss.setChaseEnabled(true);
+                    boss.triggerRoar();
+                    bossActivated = true;
+                }
+            }
+        }
+    }
+
+    private void updatePlayerBounds() {
+        int allowedRight = leftHalfCleared ? (WORLD_RIGHT - Player.FRAME_W) : (WORLD_HALF_R - Player.FRAME_W);
+        int px = player.getXPos();
+        px = Math.max(WORLD_LEFT, Math.min(px, allowedRight));
+
+        if (px != player.getXPos()) {
+            player.setPosition(px, player.getYPos());
+        }
+    }
+
+    private void updateDebuffZone() {
+        int playerX = player.getXPos();
+        boolean inCursedZone = playerX >= WORLD_HALF_R;
+
+        player.setDebuffed(inCursedZone);
+    }
+
+    // Vanished minions leave the grid and go back to the pool; the rest keep their order
+    private void updateGrid() {
+        int kept = 0;
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            Enemy en = enemies.get(i);
+            if (en.isGone()) {
+                grid.remove(en);
+                lifecycle.onGone(en);
+                enemyPool.release(en);
+                continue;
+            }
+            grid.update(en);
+            enemies.set(kept, en);
+            enemyIds[kept] = enemyIds[i];
+            kept++;
+        }
+        for (int i = enemies.size() - 1; i >= kept; i--) {
+            enemies.remove(i);
+        }
+        if (boss.isGone()) grid.remove(boss);
+        else grid.update(boss);
+    }
+
+    // Only hostiles filed near the player are tested
+    private void handleCombat() {
+        player.getHitBox(playerBox);
+        int nearby = grid.query(playerBox);
+
+        // Player attacks enemies and boss, once per swing on its hit frame
+        if (player.consumeStrike()) {
+            for (int i = 0; i < nearby; i++) {
+                Entity e = grid.getResult(i);
+                if (e.isGone() || e.isDead() || !playerBox.intersects(e.getHitBox(otherBox))) {
+                    continue;
+                }
+                if (e == boss) {
+                    boss.takeDamageFromPlayer(player.getAtk(), player.isInAttack2());
+                } else {
+                    e.takeDamage(player.getAtk());
+                }
+            }
+        }
+
+        // Enemies/Boss attack player
+        if (!player.isInvulnerable()) {
+            for (int i = 0; i < nearby; i++) {
+                Entity e = grid.getResult(i);
+                if (e instanceof Enemy en ? en.tryHit(playerBox) : e == boss && boss.tryHit(playerBox)) {
+                    player.takeDamage(e.getAtk());
+                }
+            }
+        }
+    }
+
+    // Combat is the only thing that kills, so this runs right after it
+    private void reportDeaths() {
+        reportDeath(player);
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            reportDeath(enemies.get(i));
+        }
+        reportDeath(boss);
+    }
+
+    private void reportDeath(Entity e) {
+        if (e.isDead() && !e.isDisposed() && !store.has(e.getId(), EntityStore.DEATH_REPORTED)) {
+            store.set(e.getId(), EntityStore.DEATH_REPORTED, true);
+            lifecycle.onDeath(e);
+        }
+    }
+
+    private void handleGemSpawn() {
+        if (gem == null && boss.isDead() && boss.isGone()) {
+            boss.getHitBox(otherBox);
+            int gemX = otherBox.x + otherBox.width / 2 - 16;
+            int groundY = worldHeight - GROUND_MARGIN - 16;
+            int gemY = Math.min(groundY, otherBox.y + otherBox.height - 64);
+
+            gem = new Gem(gemX, gemY);
+            gem.setCueListener(cues);
+        }
+
+        if (!gameWon && gem != null && !gem.isPicked()) {
+            if (player.getHitBox(playerBox).intersects(gem.getHitBox(otherBox))) {
+                gem.pick();
+                gameWon = true;
+            }
+        }
+    }
+
+    // Stepped entities are ACTIVE now; a finished player is reported, a finished boss released for good
+    private void updateLifecycles() {
+        player.activate();
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            enemies.get(i).activate();
+        }
+        reportGone(player);
+        if (!boss.isDisposed()) {
+            boss.activate();
+            if (boss.isGone()) {
+                reportGone(boss);
+                dispose(boss);
+            }
+        }
+    }
+
+    private void reportGone(Entity e) {
+        if (e.isGone() && !store.has(e.getId(), EntityStore.GONE_REPORTED)) {
+            store.set(e.getId(), EntityStore.GONE_REPORTED, true);
+            lifecycle.onGone(e);
+        }
+    }
+
+    private void dispose(Entity e) {
+        if (e.isDisposed()) return;
+        grid.remove(e);
+        lifecycle.onDispose(e);   // before the handle goes, so the listener can still read it
+        e.dispose();
+    }
+
+    /**
+     * Releases everything: every entity, pooled minions included, is
+     * disposed and its listeners told, and the minion worker threads stop.
+     * The simulation cannot step afterwards.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        minionUpdater.close();
+        dispose(player);
+        for (int i = 0, n = enemyPool.getCreatedCount(); i < n; i++) {
+            dispose(enemyPool.getCreated(i));
+        }
+        enemyPool.clear();
+        enemies.clear();
+        dispose(boss);
+        minionsAlive = 0;
+    }
+
+    public boolean isClosed() { return closed; }
+
+    /** Minion worker threads still running; see {@link #setUpdateThreads}. */
+    public int getLiveUpdateThreads() { return minionUpdater.getLiveThreads(); }
+
+    private void handleGameEnd() {
+        if (!gameDefeated && player.isDead() && player.isGone()) {
+            gameDefeated = true;
+        }
+    }
+
+    /**
+     * Hash of the state that matters for replays: tick, flags, and every
+     * entity out's position, HP, state, flags and animation frame, plus the gem.
+     * Two runs that agree on it for every tick played the same game.
+     */
+    public long checksum() {
+        long h = mix(FNV_OFFSET, tick);
+        h = mix(h, (gameWon ? 1 : 0) | (gameDefeated ? 2 : 0) | (leftHalfCleared ? 4 : 0) | (bossActivated ? 8 : 0));
+        h = mixEntity(mixEntity(h, player), boss);
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            h = mixEntity(h, enemies.get(i));
+        }
+        if (gem != null) {
+            h = mix(h, gem.getXPos());
+            h = mix(h, gem.getYPos());
+            h = mix(h, gem.isPicked() ? 1 : 0);
+        }
+        return h;
+    }
+
+    private long mixEntity(long h, AnimatedEntity<?> e) {
+        if (e.isDisposed()) return mix(h, -1);
+        int id = e.getId();
+        h = mix(h, store.x[id]);
+        h = mix(h, store.y[id]);
+        h = mix(h, store.hp[id]);
+        h = mix(h, store.state[id]);
+        h = mix(h, store.flags[id]);
+        return mix(h, e.getShownFrame());
+    }
+
+    private static long mix(long h, long v) {
+        return (h ^ v) * FNV_PRIME;
+    }
+
+    public int getWorldWidth() { return worldWidth; }
+    public int getWorldHeight() { return worldHeight; }
+
+    /** Steps taken so far. */
+    public long getTick() { return tick; }
+
+    public Player getPlayer() { return player; }
+    /** Minions out now, dying ones included; vanished ones are back in the {@link #getEnemyPool() pool}. */
+    public List<Enemy> getEnemies() { return enemiesView; }
+
+    public EnemyPool getEnemyPool() { return enemyPool; }
+
+    /** Minions out and not dead as of the last step; safe to read from any thread. */
+    public int getMinionsAlive() { return minionsAlive; }
+    public Cthulu getBoss() { return boss; }
+
+    /** The dropped gem, or null until the boss is gone. */
+    public Gem getGem() { return gem; }
+
+    public EntityStore getStore() { return store; }
+
+    /** Per-phase step timings; the owner decides when to {@link PhaseProfiler#roll roll} it. */
+    public PhaseProfiler getProfiler() { return profiler; }
+
+    public boolean isGameWon() { return gameWon; }
+    public boolean isGameDefeated() { return gameDefeated; }
+
+    /** True once the game is won or lost; further steps change nothing that matters. */
+    public boolean isOver() { return gameWon || gameDefeated; }
+
+    public boolean isLeftHalfCleared() { return leftHalfCleared; }
+}
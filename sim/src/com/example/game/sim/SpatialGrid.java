@@ -0,0 +1,123 @@
+package com.example.game.sim;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid over the world for broad-phase overlap queries. Entities are
+ * filed under every cell their {@link Entity#getBroadBounds broad bounds}
+ * touch and re-filed only when that cell range changes, so a query costs
+ * a few cells regardless of how many entities exist.
+ */
+public class SpatialGrid {
+    public static final int CELL_SIZE = 128;
+
+    private final int cols, rows;
+    private final Entity[][] cells;
+    private final int[] cellCounts;
+
+    private Entity[] results = new Entity[16];
+    private int resultCount = 0;
+    private int queryStamp = 0;
+    private final Box scratch = new Box();
+
+    public SpatialGrid(int worldWidth, int worldHeight) {
+        cols = Math.max(1, (worldWidth + CELL_SIZE - 1) / CELL_SIZE);
+        rows = Math.max(1, (worldHeight + CELL_SIZE - 1) / CELL_SIZE);
+        cells = new Entity[cols * rows][];
+        cellCounts = new int[cols * rows];
+    }
+
+    /** Files a new entity, or re-files it if it moved to other cells since the last call. */
+    public void update(Entity e) {
+        e.getBroadBounds(scratch);
+        int cx0 = cellX(scratch.x), cx1 = cellX(scratch.x + scratch.width - 1);
+        int cy0 = cellY(scratch.y), cy1 = cellY(scratch.y + scratch.height - 1);
+        if (e.gridFiled && cx0 == e.gridX0 && cx1 == e.gridX1 && cy0 == e.gridY0 && cy1 == e.gridY1) {
+            return;
+        }
+        remove(e);
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                insert(cy * cols + cx, e);
+            }
+        }
+        e.gridX0 = cx0;
+        e.gridX1 = cx1;
+        e.gridY0 = cy0;
+        e.gridY1 = cy1;
+        e.gridFiled = true;
+    }
+
+    public void remove(Entity e) {
+        if (!e.gridFiled) return;
+        for (int cy = e.gridY0; cy <= e.gridY1; cy++) {
+            for (int cx = e.gridX0; cx <= e.gridX1; cx++) {
+                int cell = cy * cols + cx;
+                Entity[] list = cells[cell];
+                int n = cellCounts[cell];
+                for (int i = 0; i < n; i++) {
+                    if (list[i] == e) {
+                        System.arraycopy(list, i + 1, list, i, n - i - 1);
+                        list[--cellCounts[cell]] = null;
+                        break;
+                    }
+                }
+            }
+        }
+        e.gridFiled = false;
+    }
+
+    /**
+     * Collects every entity filed in a cell that {@code box} touches; read
+     * them back with {@link #getResult}. Candidates only: callers still test
+     * the exact boxes. Results stay valid until the next query.
+     */
+    public int query(Box box) {
+        resultCount = 0;
+        queryStamp++;
+        int cx0 = cellX(box.x), cx1 = cellX(box.x + box.width - 1);
+        int cy0 = cellY(box.y), cy1 = cellY(box.y + box.height - 1);
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                int cell = cy * cols + cx;
+                Entity[] list = cells[cell];
+                for (int i = 0, n = cellCounts[cell]; i < n; i++) {
+                    Entity e = list[i];
+                    if (e.gridStamp != queryStamp) {
+                        e.gridStamp = queryStamp;
+                        if (resultCount == results.length) {
+                            results = Arrays.copyOf(results, resultCount * 2);
+                        }
+                        results[resultCount++] = e;
+                    }
+                }
+            }
+        }
+        return resultCount;
+    }
+
+    public Entity getResult(int i) {
+        return results[i];
+    }
+
+    private void insert(int cell, Entity e) {
+        Entity[] list = cells[cell];
+        int n = cellCounts[cell];
+        if (list == null) {
+            list = cells[cell] = new Entity[4];
+        } else if (n == list.length) {
+            list = cells[cell] = Arrays.copyOf(list, n * 2);
+        }
+        list[n] = e;
+        cellCounts[cell] = n + 1;
+    }
+
+    // Anything outside the world is filed in the border cells
+    private int cellX(int x) {
+        return Math.max(0, Math.min(cols - 1, Math.floorDiv(x, CELL_SIZE)));
+    }
+
+    private int cellY(int y) {
+        return Math.max(0, Math.min(rows - 1, Math.floorDiv(y, CELL_SIZE)));
+    }
+}
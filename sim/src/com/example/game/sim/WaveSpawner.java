@@ -0,0 +1,115 @@
+package com.example.game.sim;
+
+/**
+ * Horde mode: sends minions at the player in waves from both edges of the
+ * left half. Each wave is {@code growth} bigger than the last and trickles
+ * in at most {@code perTick} at a time; the next one starts
+ * {@code delayMs} after the last of the previous one is out. Never more
+ * than {@code maxAlive} are out at once, which is also how many the
+ * simulation prewarms. The gate opens once every wave has been sent and
+ * killed. Only step counts drive it, so a replay spawns the same minions
+ * on the same ticks.
+ */
+public final class WaveSpawner {
+    private static final int EDGE_SPREAD = 240;   // how far in from the edge a spawn can land
+
+    private int waves = 5;
+    private int firstWave = 200;
+    private int growth = 200;
+    private int perTick = 8;
+    private int delayMs = 3000;
+    private int maxAlive = 2000;
+
+    private int wave = 0;
+    private int leftInWave = 0;
+    private int delayLeftMs = 0;
+    private int spawned = 0;
+
+    /** A spawner with the defaults above; the setters below chain. */
+    public WaveSpawner() {
+    }
+
+    public WaveSpawner waves(int count) {
+        this.waves = Math.max(1, count);
+        return this;
+    }
+
+    public WaveSpawner firstWave(int size) {
+        this.firstWave = Math.max(1, size);
+        return this;
+    }
+
+    public WaveSpawner growth(int perWave) {
+        this.growth = Math.max(0, perWave);
+        return this;
+    }
+
+    public WaveSpawner perTick(int count) {
+        this.perTick = Math.max(1, count);
+        return this;
+    }
+
+    public WaveSpawner delayMs(int ms) {
+        this.delayMs = Math.max(0, ms);
+        return this;
+    }
+
+    public WaveSpawner maxAlive(int count) {
+        this.maxAlive = Math.max(1, count);
+        return this;
+    }
+
+    /** A spawner with the same settings, at its first wave. */
+    public WaveSpawner copySettings() {
+        return new WaveSpawner().waves(waves).firstWave(firstWave).growth(growth)
+                .perTick(perTick).delayMs(delayMs).maxAlive(maxAlive);
+    }
+
+    int getFirstWave() { return firstWave; }
+    int getGrowth() { return growth; }
+    int getPerTick() { return perTick; }
+    int getDelayMs() { return delayMs; }
+
+    public int getMaxAlive() {
+        return maxAlive;
+    }
+
+    /** Waves started so far. */
+    public int getWave() {
+        return wave;
+    }
+
+    public int getWaveCount() {
+        return waves;
+    }
+
+    /** True once every minion of every wave has been sent. */
+    public boolean isFinished() {
+        return wave >= waves && leftInWave == 0;
+    }
+
+    /** How many minions to spawn this step, with {@code alive} already out. */
+    int step(int dt, int alive) {
+        if (leftInWave == 0) {
+            if (wave >= waves) return 0;
+            if (delayLeftMs > 0) {
+                delayLeftMs -= dt;
+                return 0;
+            }
+            leftInWave = firstWave + wave * growth;
+            wave++;
+        }
+        int n = Math.max(0, Math.min(Math.min(perTick, leftInWave), maxAlive - alive));
+        leftInWave -= n;
+        if (leftInWave == 0) delayLeftMs = delayMs;
+        return n;
+    }
+
+    /** Where the next spawn lands: alternating edges of {@code [left, right)}, spread in a fixed pattern. */
+    int nextSpawnX(int left, int right) {
+        int offset = (spawned * 97) % EDGE_SPREAD;
+        int x = (spawned & 1) == 0 ? left + offset : right - offset;
+        spawned++;
+        return x;
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * 
+ */
+module JavaGame.sim {
+	exports com.example.game.sim;
+}
\ No newline at end of file
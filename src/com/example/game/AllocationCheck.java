@@ -0,0 +1,76 @@
+package com.example.game;
+
+import com.example.game.core.*;
+
+import java.awt.*;
+import java.awt.event.KeyEvent;
+import java.awt.image.BufferedImage;
+
+/**
+ * Allocation regression check for the tick path: plays a scripted fight
+ * headless (walk right, attack on a beat) for {@code ticks} and for twice
+ * that, and fails when the longer run allocates more than a small budget
+ * beyond the shorter one.
+ *
+ * <pre>java -Djava.awt.headless=true -cp &lt;classes&gt; com.example.game.AllocationCheck [ticks] [budgetBytes]</pre>
+ *
+ * Exits with status 1 over budget. What the fight allocates once (sound
+ * commands, HP labels, the enemies dying) cancels out between the two runs;
+ * anything allocated every tick, even one boxed Integer, grows with the
+ * extra ticks and blows the budget.
+ */
+class AllocationCheck {
+    private static final int VIEW_W = 928, VIEW_H = 357;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 3;   // best of, so a stray JIT or GC allocation does not fail the check
+
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 3000;
+        long budget = args.length > 1 ? Long.parseLong(args[1]) : 2048;
+
+        if (!AllocationProbe.isSupported()) {
+            System.err.println("AllocationCheck: this JVM cannot count thread allocations");
+            System.exit(2);
+        }
+        Image bg = ResourceLoader.loadImage(GameScene.BG_PATH);
+        BufferedImage frame = ResourceLoader.createCompatibleImage(VIEW_W, VIEW_H, Transparency.OPAQUE);
+
+        // Same script on throwaway scenes first, so the measured run is JIT-compiled
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            play(newScene(bg), frame, ticks * 2, null);
+        }
+
+        AllocationProbe probe = new AllocationProbe();
+        long shortRun = Long.MAX_VALUE, longRun = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            shortRun = Math.min(shortRun, play(newScene(bg), frame, ticks, probe));
+            longRun = Math.min(longRun, play(newScene(bg), frame, ticks * 2, probe));
+        }
+        long growth = longRun - shortRun;
+        System.out.printf("AllocationCheck: %d bytes over %d ticks, %d over %d (%+d bytes, %.1f bytes/tick, budget %d)%n",
+                shortRun, ticks, longRun, ticks * 2, growth, growth / (double) ticks, budget);
+        System.exit(growth > budget ? 1 : 0);
+    }
+
+    private static GameScene newScene(Image bg) {
+        GameScene scene = new GameScene(bg);
+        scene.onViewReady(VIEW_W, VIEW_H);
+        return scene;
+    }
+
+    /** Runs the script; returns the bytes allocated while ticking, or 0 without a probe. */
+    private static long play(GameScene scene, BufferedImage frame, int ticks, AllocationProbe probe) {
+        Graphics2D g = frame.createGraphics();
+        scene.keyPressed(KeyEvent.VK_D);
+        scene.render(g);   // first frame builds the HUD's cached text
+        if (probe != null) probe.start();
+        for (int i = 0; i < ticks; i++) {
+            if (i % 40 == 0) scene.keyPressed(KeyEvent.VK_J);
+            scene.update(GameLoop.STEP_MS);
+            scene.render(g);
+        }
+        long bytes = probe != null ? probe.bytesSinceStart() : 0;
+        g.dispose();
+        return bytes;
+    }
+}
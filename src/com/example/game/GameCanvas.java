@@ -0,0 +1,98 @@
+package com.example.game;
+
+import com.example.game.core.FrameTimer;
+
+import java.awt.*;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Active-rendering host: the game loop runs on its own thread, which owns
+ * the page-flipped {@link BufferStrategy}, draws every frame straight into
+ * it and shows it, so neither Swing's timer nor the RepaintManager sits
+ * between a tick and the screen. A flipped back buffer holds stale contents,
+ * so every frame is redrawn in full.
+ *
+ * Keys arrive on the EDT and are queued; the loop thread applies them after
+ * presenting a frame, before the next frame's ticks.
+ */
+@SuppressWarnings("serial")   // never serialized, like the Swing panels
+class GameCanvas extends Canvas implements KeyListener {
+    private final GameScene game;
+    private final FrameTimer renderTimer = new FrameTimer();
+    private final FrameTimer presentTimer = new FrameTimer();
+    private BufferStrategy strategy;
+    private final ConcurrentLinkedQueue<Integer> keys = new ConcurrentLinkedQueue<>();   // key code, or ~code for a release
+
+    GameCanvas(GameScene game) {
+        this.game = game;
+        setIgnoreRepaint(true);
+        setFocusable(true);
+        addKeyListener(this);
+    }
+
+    /** Must be called once the canvas is displayable (added to a visible frame). */
+    void start() {
+        createBufferStrategy(2);
+        strategy = getBufferStrategy();
+        game.onViewReady(getWidth(), getHeight());
+        game.startOnThread(this::renderFrame);
+    }
+
+    // Loop thread only
+    private void renderFrame() {
+        long start = System.nanoTime();
+        game.setViewSize(getWidth(), getHeight());
+        do {
+            do {
+                long t0 = System.nanoTime();
+                Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    game.render(g);
+                } finally {
+                    g.dispose();
+                }
+                renderTimer.record(System.nanoTime() - t0);
+            } while (strategy.contentsRestored());
+
+            long t1 = System.nanoTime();
+            strategy.show();
+            Toolkit.getDefaultToolkit().sync();
+            presentTimer.record(System.nanoTime() - t1);
+        } while (strategy.contentsLost());
+        game.profiler.record(GameScene.P_PRESENT, System.nanoTime() - start);
+
+        Integer key;
+        while ((key = keys.poll()) != null) {
+            if (key >= 0) {
+                game.keyPressed(key);
+            } else {
+                game.keyReleased(~key);
+            }
+        }
+    }
+
+    FrameTimer getRenderTimer() {
+        return renderTimer;
+    }
+
+    FrameTimer getPresentTimer() {
+        return presentTimer;
+    }
+
+    @Override
+    public void keyPressed(KeyEvent e) {
+        keys.offer(e.getKeyCode());
+    }
+
+    @Override
+    public void keyReleased(KeyEvent e) {
+        keys.offer(~e.getKeyCode());
+    }
+
+    @Override
+    public void keyTyped(KeyEvent e) {
+    }
+}
@@ -1,18 +1,27 @@
 
 package com.example.game;
 
-import com.example.game.entities.*;
 import com.example.game.core.*;
+import com.example.game.sim.InputLog;
 import javax.swing.*;
 import javax.swing.Timer;
 
 import java.awt.*;
 import java.awt.event.*;
-import javax.sound.sampled.Clip;
-import java.util.*;
-import java.util.List;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Supplier;
 
 public class GameLauncher extends JFrame {
+    // -Dgame.activeRendering=true renders through a BufferStrategy instead of Swing repaints
+    static final boolean ACTIVE_RENDERING = Boolean.getBoolean("game.activeRendering");
+    // -Dgame.record=file writes the session's input there; -Dgame.replay=file plays one back
+    static final String RECORD_PATH = System.getProperty("game.record");
+    static final String REPLAY_PATH = System.getProperty("game.replay");
+
+    private Supplier<String> frameReport;
+    private GameScene scene;
 
     public GameLauncher() {
         setTitle("LEGEND OF CTHULU");
@@ -21,34 +30,58 @@ public class GameLauncher extends JFrame {
         setLocationRelativeTo(null);
         setResizable(false);
         setContentPane(new TitleScreenPanel());
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                if (scene != null) {
+                    LeakReport leaks = scene.dispose();   // stops the loop first, wherever it runs
+                    scene.saveRecording();
+                    System.out.println(leaks);
+                }
+                if (frameReport != null) {
+                    System.out.println(frameReport.get());
+                    System.out.printf("sprites: atlas %d KB, mirrored %d KB%n",
+                            SpriteSheet.getAtlasBytes() / 1024, SpriteSheet.getMirroredBytes() / 1024);
+                }
+            }
+        });
         setVisible(true);
     }
 
     // =============== Title Screen ===============
     class TitleScreenPanel extends JPanel implements ActionListener, KeyListener {
+        private static final int BGM_FADE_MS = 400;
         private Image titleImage;
         private boolean showText = true;
         private Timer blinkTimer;
-        private Clip bgmClip;
+
+        // Game assets load in the background while the title is up
+        private final AssetPreloader preloader = new AssetPreloader();
+        private Timer progressTimer;
+        private boolean startRequested = false;
 
         TitleScreenPanel() {
             setFocusable(true);
             addKeyListener(this);
 
             titleImage = ResourceLoader.loadImage("/assets/Title Screen.png");
-            bgmClip = ResourceLoader.loadClip("/assets/sound/intense-fantasy-soundtrack-201079.wav");
-            
-            if (bgmClip != null) {
-                bgmClip.loop(Clip.LOOP_CONTINUOUSLY);
-                bgmClip.start();
-            }
+            SoundManager.playMusic("/assets/sound/intense-fantasy-soundtrack-201079.wav", 0);
+
+            GameScene.preload(preloader);
+            preloader.start();
+            progressTimer = new Timer(50, e -> repaint());
+            progressTimer.start();
+            preloader.whenDone(() -> {
+                progressTimer.stop();
+                repaint();
+            });
 
             blinkTimer = new Timer(500, this);
             blinkTimer.start();
         }
 
         private void stopBGM() {
-            SoundManager.close(bgmClip);
+            SoundManager.stopMusic(BGM_FADE_MS);
         }
 
         @Override
@@ -72,20 +105,68 @@ public class GameLauncher extends JFrame {
                 g.setColor(Color.WHITE);
                 g.drawString("Press K Button to Start", getWidth() / 2 - 150, getHeight() / 2 + 80);
             }
+
+            if (!preloader.isDone()) {
+                drawLoadingBar(g);
+            }
+        }
+
+        private void drawLoadingBar(Graphics g) {
+            int w = 200, h = 6;
+            int x = (getWidth() - w) / 2, y = getHeight() - 30;
+            g.setColor(Color.DARK_GRAY);
+            g.fillRect(x, y, w, h);
+            g.setColor(Color.WHITE);
+            g.fillRect(x, y, Math.round(w * preloader.getProgress()), h);
+            g.setFont(new Font("Monospaced", Font.PLAIN, 12));
+            g.drawString(startRequested ? "Loading..." : "Loading", x, y - 4);
         }
 
         @Override
         public void keyPressed(KeyEvent e) {
-            if (e.getKeyCode() == KeyEvent.VK_K) {
+            if (e.getKeyCode() == KeyEvent.VK_K && !startRequested) {
+                startRequested = true;
                 if (blinkTimer != null) blinkTimer.stop();
                 stopBGM();
+                repaint();
+
+                // Normally already done, so the scene is built from warm caches
+                preloader.whenDone(this::startGame);
+            }
+        }
+
+        private void startGame() {
+            GameScene scene = new GameScene(ResourceLoader.loadImage(GameScene.BG_PATH));
+            if (REPLAY_PATH != null) {
+                try (InputStream in = new FileInputStream(REPLAY_PATH)) {
+                    scene.replayFrom(InputLog.read(in));
+                } catch (IOException e) {
+                    System.err.println("⚠️ อ่านไฟล์บันทึกอินพุตไม่ได้: " + e.getMessage());
+                }
+            } else if (RECORD_PATH != null) {
+                scene.recordTo(RECORD_PATH);
+            }
+            GameLauncher.this.scene = scene;
 
-                Image bgImage = ResourceLoader.loadImage("/assets/Background.png");
-                DrawArea game = new DrawArea(bgImage);
+            if (ACTIVE_RENDERING) {
+                GameCanvas canvas = new GameCanvas(scene);
+                JPanel holder = new JPanel(new BorderLayout());
+                holder.add(canvas, BorderLayout.CENTER);
+                GameLauncher.this.setContentPane(holder);
+                GameLauncher.this.revalidate();
+                SwingUtilities.invokeLater(() -> {
+                    canvas.start();
+                    canvas.requestFocusInWindow();
+                });
+                frameReport = () -> "[active] render " + canvas.getRenderTimer()
+                        + " | present " + canvas.getPresentTimer();
+            } else {
+                DrawArea game = new DrawArea(scene);
                 GameLauncher.this.setContentPane(game);
                 GameLauncher.this.revalidate();
                 GameLauncher.this.repaint();
-                SwingUtilities.invokeLater(game::requestFocusInWindow);
+                frameReport = () -> "[swing] paint " + game.paintTimer
+                        + " | redrawn px/paint avg=" + game.damage.getAveragePixels();
             }
         }
 
@@ -98,298 +179,60 @@ public class GameLauncher extends JFrame {
         }
     }
 
-    // =============== Game Area ===============
+    // =============== Game Area (passive Swing painting) ===============
     class DrawArea extends JPanel implements KeyListener {
-        // World
-        final Image imgBg;
-        final int bgWidth, bgHeight;
-        float cameraX = 0f;
-
-        // HUD
-        Image hudIcon;
-        final int HUD_X = 12, HUD_Y = 0;
-        final int BAR_OFFSET_X = 77, BAR_OFFSET_Y = 83, BAR_W = 110, BAR_H = 14;
-
-        // World constants
-        final int GROUND_MARGIN = 50;
-        final int WORLD_LEFT = 0;
-        final int WORLD_HALF_R = 928;   
-        final int WORLD_RIGHT = 1952;
-
-        // Entities
-        Player player;
-        List<Enemy> enemies = new ArrayList<>();
-        Cthulu boss;
-        Gem gem = null;
-        
-        boolean gameWon = false;
-        boolean gameDefeated = false;
-
-        // Gate system
-        boolean leftHalfCleared = false;
-        boolean bossActivated = false;
-
-        // Damage tracking
-        private int lastPlayerFrame = -1;
-        private boolean[] enemyHitApplied;
-        private boolean bossHitApplied = false;
-
-        Timer gameTimer = new Timer(16, new GameUpdateListener());
-
-        DrawArea(Image img) {
-            this.imgBg = img;
-            this.bgWidth = img.getWidth(null);
-            this.bgHeight = img.getHeight(null);
-
-            setLayout(null);
+        final GameScene game;
+        final FrameTimer paintTimer = new FrameTimer();
+        final DamageTracker damage = new DamageTracker();
+        private final Rectangle clip = new Rectangle();
+
+        DrawArea(GameScene game) {
+            this.game = game;
             setFocusable(true);
             addKeyListener(this);
 
-            hudIcon = ResourceLoader.loadImage("/assets/HealthBar.png");
-
-            // Create player
-            player = new Player();
-            player.setBounds(0, 0, bgWidth, bgHeight);
-            add(player);
-
-            // Create enemies
-            int[] spawnX = {520, 700, 860};
-            for (int x : spawnX) {
-                Enemy e = new Enemy(x, player);
-                e.setBounds(0, 0, bgWidth, bgHeight);
-                e.snapToGround();
-                enemies.add(e);
-                add(e);
-            }
-            enemyHitApplied = new boolean[enemies.size()];
-
-            // Create boss
-            boss = new Cthulu(player);
-            boss.setBounds(0, 0, bgWidth, bgHeight);
-            boss.setPosition(WORLD_RIGHT - Cthulu.FRAME_W, bgHeight - Cthulu.FRAME_H - GROUND_MARGIN + 35);
-            add(boss);
-
-            // Snap entities to ground
+            // Snap entities to ground once the panel has its real size
             SwingUtilities.invokeLater(() -> {
-                player.forceSnapToGround(bgHeight, GROUND_MARGIN);
-                for (Enemy e : enemies) {
-                    e.snapToGround();
-                }
+                game.onViewReady(getWidth(), getHeight());
                 requestFocusInWindow();
             });
 
-            gameTimer.start();
+            game.start(this::present);
         }
 
-        class GameUpdateListener implements ActionListener {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                updateGateLogic();
-                updatePlayerBounds();
-                updateDebuffZone();  
-                updateCamera();
-                updateDamageTracking();
-                handleCombat();
-                handleGemSpawn();
-                handleGameEnd();
-                repaint();
-            }
-
-            private void updateGateLogic() {
-                if (!leftHalfCleared) {
-                    boolean anyAlive = enemies.stream().anyMatch(en -> !en.isGone() && !en.isDead());
-                    if (!anyAlive) {
-                        leftHalfCleared = true;
-                        if (!bossActivated) {
-                            boss.setChaseEnabled(true);
-                            boss.triggerRoar();
-                            bossActivated = true;
-                        }
-                    }
-                }
-            }
-
-            private void updatePlayerBounds() {
-                int allowedRight = leftHalfCleared ? (WORLD_RIGHT - Player.FRAME_W) : (WORLD_HALF_R - Player.FRAME_W);
-                int px = player.getXPos();
-                px = Math.max(WORLD_LEFT, Math.min(px, allowedRight));
-                
-                if (px != player.getXPos()) {
-                    player.setPosition(px, player.getYPos());
-                }
-            }
-
-            private void updateDebuffZone() {
-                int playerX = player.getXPos();
-                boolean inCursedZone = playerX >= WORLD_HALF_R;
-                
-                player.setDebuffed(inCursedZone);
-            }
-
-            private void updateCamera() {
-                int playerCenter = player.getXPos() + Player.FRAME_W / 2;
-                int halfScreen = Math.max(1, getWidth() / 2);
-                cameraX = playerCenter - halfScreen;
-                cameraX = Math.max(0, Math.min(cameraX, Math.max(0, bgWidth - getWidth())));
-            }
-
-            private void updateDamageTracking() {
-                if (player.isAttacking()) {
-                    int cur = player.getCurrentFrameIndex();
-                    if (cur < lastPlayerFrame) {
-                        Arrays.fill(enemyHitApplied, false);
-                        bossHitApplied = false;
-                    }
-                    lastPlayerFrame = cur;
-                } else {
-                    Arrays.fill(enemyHitApplied, false);
-                    bossHitApplied = false;
-                    lastPlayerFrame = -1;
-                }
-            }
-
-            private void handleCombat() {
-                // Player attacks enemies
-                if (player.isAttacking() && player.isAtHitFrame()) {
-                    for (int i = 0; i < enemies.size(); i++) {
-                        Enemy en = enemies.get(i);
-                        if (!enemyHitApplied[i] && !en.isGone() && !en.isDead()
-                                && player.getHitBox().intersects(en.getHitBox())) {
-                            en.takeDamage(player.getAtk());
-                            enemyHitApplied[i] = true;
-                        }
-                    }
-                }
-
-                // Player attacks boss
-                if (player.isAttacking() && player.isAtHitFrame()) {
-                    if (!bossHitApplied && boss != null && !boss.isGone() && !boss.isDead()
-                            && player.getHitBox().intersects(boss.getHitBox())) {
-                        boss.takeDamageFromPlayer(player.getAtk(), player.isInAttack2());
-                        bossHitApplied = true;
-                    }
-                }
-
-                // Enemies/Boss attack player
-                if (!player.isInvulnerable()) {
-                    for (Enemy en : enemies) {
-                        if (en.tryHit(player.getHitBox())) {
-                            player.takeDamage(en.getAtk());
-                        }
-                    }
-
-                    if (boss.tryHit(player.getHitBox())) {
-                        player.takeDamage(boss.getAtk());
-                    }
-                }
-            }
-
-            private void handleGemSpawn() {
-                if (gem == null && boss.isDead() && boss.isGone()) {
-                    int gemX = boss.getHitBox().x + boss.getHitBox().width / 2 - 16;
-                    int groundY = bgHeight - GROUND_MARGIN - 16;
-                    int gemY = Math.min(groundY, boss.getHitBox().y + boss.getHitBox().height - 64);
-
-                    gem = new Gem(gemX, gemY);
-                    gem.setWorldBoundsDimension(bgWidth, bgHeight);
-                    gem.setOpaque(false);
-                    add(gem);
-                }
-
-                if (!gameWon && gem != null && !gem.isPicked()) {
-                    if (player.getHitBox().intersects(gem.getHitBox())) {
-                        gem.pick();
-                        gameWon = true;
-                        gameTimer.stop();
-                    }
-                }
-            }
-
-            private void handleGameEnd() {
-                if (!gameDefeated && player.isDead() && player.isGone()) {
-                    gameDefeated = true;
-                    try {
-                        gameTimer.stop();
-                    } catch (Exception ignore) {
-                    }
-                    repaint();
+        // Runs on the EDT right after the ticks, so only the damaged regions are repainted
+        private void present() {
+            long t0 = System.nanoTime();
+            game.setViewSize(getWidth(), getHeight());
+            game.collectDamage(damage);
+            if (damage.isFull()) {
+                paintImmediately(0, 0, getWidth(), getHeight());
+            } else {
+                for (int i = 0; i < damage.getRectCount(); i++) {
+                    paintImmediately(damage.getRect(i));
                 }
             }
-        }
-
-        @Override
-        protected void paintComponent(Graphics g) {
-            super.paintComponent(g);
-            g.drawImage(imgBg, 0, 0, null);
-            
-            // ✅ วาด Cursed Zone Overlay (ม่วงโปร่งแสง)
-            if (leftHalfCleared) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setColor(new Color(75, 0, 130, 30));  // สีม่วงเข้มโปร่งแสง
-                g2.fillRect(WORLD_HALF_R, 0, bgWidth - WORLD_HALF_R, bgHeight);
-                g2.dispose();
-            }
+            game.profiler.record(GameScene.P_PRESENT, System.nanoTime() - t0);
         }
 
         @Override
         public void paint(Graphics g) {
-            Graphics2D world = (Graphics2D) g.create();
-            world.translate(-cameraX, 0);
-            super.paint(world);
-            world.dispose();
-            drawHUD((Graphics2D) g);
-        }
-
-        private void drawHUD(Graphics2D g2) {
-            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
-            g2.drawImage(hudIcon, HUD_X, HUD_Y, this);
-
-            int hp = player.getHp(), maxHp = player.getMaxHp();
-            float pct = Math.max(0f, Math.min(1f, hp / (float) maxHp));
-            int x = HUD_X + BAR_OFFSET_X, y = HUD_Y + BAR_OFFSET_Y;
-
-            g2.setColor(new Color(200, 40, 40));
-            g2.fillRect(x, y, Math.round(BAR_W * pct), BAR_H);
-
-            g2.setColor(Color.BLACK);
-            g2.drawRect(x, y, BAR_W, BAR_H);
-
-            g2.setFont(g2.getFont().deriveFont(Font.BOLD, 12f));
-            g2.setColor(Color.WHITE);
-            g2.drawString(hp + " / " + maxHp, x + BAR_W - 100, y + BAR_H - 1);
-
-            // ✅ แสดงสถานะ Debuff
-            if (player.isDebuffed()) {
-                g2.setFont(g2.getFont().deriveFont(Font.BOLD, 14f));
-                g2.setColor(new Color(138, 43, 226));
-                g2.drawString("⚠ CURSED ZONE", HUD_X + 10, HUD_Y + 130);
-            }
-
-            if (gameWon) {
-                String msg = "VICTORY!";
-                g2.setFont(g2.getFont().deriveFont(Font.BOLD, 24f));
-                g2.setColor(new Color(255, 255, 255));
-                int w = g2.getFontMetrics().stringWidth(msg);
-                g2.drawString(msg, (getWidth() - w) / 2, 60);
-            }
-
-            if (gameDefeated) {
-                String msg = "DEFEAT";
-                g2.setFont(g2.getFont().deriveFont(Font.BOLD, 20f));
-                g2.setColor(new Color(220, 60, 60));
-                int wStr = g2.getFontMetrics().stringWidth(msg);
-                g2.drawString(msg, (getWidth() - wStr) / 2, 60);
-            }
+            long t0 = System.nanoTime();
+            game.setViewSize(getWidth(), getHeight());
+            game.render((Graphics2D) g);
+            g.getClipBounds(clip);
+            damage.recordPixels((long) clip.width * clip.height);
+            paintTimer.record(System.nanoTime() - t0);
         }
 
         @Override
         public void keyPressed(KeyEvent e) {
-            player.onKeyPressed(e.getKeyCode());
+            game.keyPressed(e.getKeyCode());
         }
 
         @Override
         public void keyReleased(KeyEvent e) {
-            player.onKeyReleased(e.getKeyCode());
+            game.keyReleased(e.getKeyCode());
         }
 
         @Override
@@ -0,0 +1,524 @@
+package com.example.game;
+
+import com.example.game.entities.*;
+import com.example.game.core.*;
+import com.example.game.sim.*;
+import com.example.game.telemetry.EntityEvent;
+import com.example.game.telemetry.GameStats;
+import com.example.game.telemetry.TickEvent;
+
+import java.awt.*;
+import java.awt.event.KeyEvent;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Shows a {@link Simulation}: camera, entity views, HUD and sound. The
+ * rules live in the simulation; this class only feeds it input, steps it
+ * and draws the result. It does not know how it is shown either;
+ * {@link GameLauncher.DrawArea} paints it through Swing and
+ * {@link GameCanvas} renders it actively into a BufferStrategy.
+ */
+class GameScene implements Updatable {
+    static final String BG_PATH = "/assets/Background.png";
+    static final String HUD_PATH = "/assets/HealthBar.png";
+
+    // World
+    final Image imgBg;
+    final Image imgBgCursed;   // imgBg with the cursed-zone tint baked in
+    final int bgWidth, bgHeight;
+    float cameraX = 0f;
+    int viewWidth, viewHeight;
+
+    // HUD
+    Image hudIcon;
+    final int HUD_X = 12, HUD_Y = 0;
+    final int BAR_OFFSET_X = 77, BAR_OFFSET_Y = 83, BAR_W = 110, BAR_H = 14;
+    final int CURSED_OFFSET_X = 10, CURSED_OFFSET_Y = 130;
+    static final Color BAR_COLOR = new Color(200, 40, 40);
+    static final Color CURSED_TEXT_COLOR = new Color(138, 43, 226);
+    static final Color CURSED_TINT = new Color(75, 0, 130, 30);   // สีม่วงเข้มโปร่งแสง
+    static final Color DEFEAT_COLOR = new Color(220, 60, 60);
+
+    // HUD text, rendered once per host font; the HP label again when HP changes
+    private Font hudBaseFont, hpFont;
+    private TextSprite hpLabel, cursedLabel, victoryLabel, defeatLabel;
+    private int hpShown;
+    private final Rectangle hudBox = new Rectangle(), labelBox = new Rectangle();   // HUD area last marked drawn
+
+    // Simulation and what shows it; -Dgame.simThreads=n updates the minions on n threads
+    static final int SIM_THREADS = Integer.getInteger("game.simThreads", 1);
+    // -Dgame.horde=n turns on horde mode with a first wave of n minions
+    static final Integer HORDE_FIRST_WAVE = Integer.getInteger("game.horde");
+    final Simulation sim;
+    final Player player;
+    final Input input = new Input();
+    final DrawList scene = new DrawList();
+    private GemView gemView = null;
+    private int enemyViews = 0;          // pooled minions that have a view; each keeps it until disposed
+    private final Map<Entity, Renderable> views = new IdentityHashMap<>();
+    private InputRecorder recorder;      // set when this session is written to recordPath
+    private String recordPath;
+    private InputReplayer replayer;      // set when the session comes from a log instead of the keyboard
+    private final Rectangle clipBox = new Rectangle();
+
+    // Profiler overlay (F3): the scene's phases next to the simulation's
+    static final int P_TICK = 0, P_CAMERA = 1, P_RENDER = 2, P_PRESENT = 3;
+    private static final int PROFILE_WINDOW_TICKS = 120;   // about two seconds per window
+    static final Font PROFILER_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+    static final Color PROFILER_BG = new Color(0, 0, 0, 170);
+    static final int PROFILER_W = 300, PROFILER_LINE = 13;
+    final PhaseProfiler profiler = new PhaseProfiler("tick", "camera", "render", "present");
+    private boolean profilerShown = Boolean.getBoolean("game.profiler");
+    private final Rectangle profilerBox = new Rectangle();
+
+    private GameLoop gameLoop;
+    private GameStats stats;
+
+    // A disposed entity takes its view out of the scene, so nothing stays attached to it
+    private final EntityListener detach = new EntityListener() {
+        @Override
+        public void onDispose(Entity e) {
+            Renderable view = views.remove(e);
+            if (view != null) scene.remove(view);
+        }
+    };
+
+    // What the last presented frame showed, for damage tracking
+    private int shownHp = -1;
+    private boolean shownDebuffed, shownCleared, shownEnded, shownProfiler;
+
+    GameScene(Image img) {
+        this.imgBg = img;
+        this.bgWidth = img.getWidth(null);
+        this.bgHeight = img.getHeight(null);
+        this.imgBgCursed = bakeCursedTint(img);
+
+        hudIcon = ResourceLoader.loadImage(HUD_PATH);
+
+        SoundBoard sounds = new SoundBoard();
+        PlayerView.bindSounds(sounds);
+        EnemyView.bindSounds(sounds);
+        CthuluView.bindSounds(sounds);
+        GemView.bindSounds(sounds);
+
+        CueListener cues = cue -> {
+            logCue(cue);
+            sounds.onCue(cue);
+        };
+        sim = new Simulation(bgWidth, bgHeight, cues, EntityEvent.LISTENER.andThen(detach));
+        sim.setUpdateThreads(SIM_THREADS);
+        if (HORDE_FIRST_WAVE != null) {
+            int first = HORDE_FIRST_WAVE;
+            sim.setWaveSpawner(new WaveSpawner().firstWave(first).growth(first));
+        }
+        player = sim.getPlayer();
+        attach(player, new PlayerView(player));
+        addEnemyViews();
+        attach(sim.getBoss(), new CthuluView(sim.getBoss()));
+    }
+
+    // The curse has no sound; the console gets the line the simulation used to print itself
+    private static void logCue(Cue cue) {
+        if (cue == Cue.PLAYER_CURSED) {
+            System.out.println("⚠️ Player entered cursed area - Attack speed decreased!");
+        } else if (cue == Cue.PLAYER_UNCURSED) {
+            System.out.println("✅ Player left cursed area - Attack speed normal");
+        }
+    }
+
+    /** Everything the scene constructor loads. */
+    static void preload(AssetPreloader loader) {
+        loader.image(BG_PATH);
+        loader.image(HUD_PATH);
+        PlayerView.preload(loader);
+        EnemyView.preload(loader);
+        CthuluView.preload(loader);
+        GemView.preload(loader);
+    }
+
+    /** Starts ticking the scene on the EDT; {@code presenter} shows one frame after each batch of ticks. */
+    void start(Runnable presenter) {
+        start(new GameLoop(this, presenter));
+    }
+
+    /** Like {@link #start(Runnable)}, but ticks and presents on the loop's own thread. */
+    void startOnThread(Runnable presenter) {
+        start(GameLoop.onThread(this, presenter));
+    }
+
+    private void start(GameLoop loop) {
+        gameLoop = loop;
+        stats = new GameStats(sim, gameLoop, profiler, P_PRESENT);
+        stats.register();
+        gameLoop.start();
+    }
+
+    GameLoop getLoop() {
+        return gameLoop;
+    }
+
+    private void stopLoop() {
+        if (gameLoop != null) {
+            gameLoop.stop();
+        }
+    }
+
+    /**
+     * Called by the host once it has been laid out: snap entities to the
+     * visible ground. A replay keeps the ground it was recorded with.
+     */
+    void onViewReady(int width, int height) {
+        setViewSize(width, height);
+        if (replayer != null) return;
+        sim.snapToGround(height);
+        if (recordPath != null && recorder == null && sim.getTick() == 0) {
+            recorder = new InputRecorder(sim, height);
+        }
+    }
+
+    /** Writes this session's input to {@code path}; starts with the first tick after {@link #onViewReady}. */
+    void recordTo(String path) {
+        recordPath = path;
+    }
+
+    /**
+     * Plays {@code log} instead of the keyboard. Call before the first tick.
+     * The recorded horde settings, or their absence, replace -Dgame.horde.
+     */
+    void replayFrom(InputLog log) {
+        if (log.getWorldWidth() != bgWidth || log.getWorldHeight() != bgHeight) {
+            System.err.println("⚠️ ขนาดโลกในไฟล์บันทึกไม่ตรงกับฉาก ผลเล่นซ้ำอาจไม่ตรง");
+        }
+        sim.setWaveSpawner(log.newWaveSpawner());
+        replayer = new InputReplayer(log, sim);
+        sim.snapToGround(log.getGroundHeight());
+    }
+
+    InputReplayer getReplayer() {
+        return replayer;
+    }
+
+    /** Saves the recording so far, if this session is being recorded. */
+    void saveRecording() {
+        if (recorder == null) return;
+        try (OutputStream out = new FileOutputStream(recordPath)) {
+            recorder.getLog().write(out);
+            System.out.println("บันทึกอินพุต " + recorder.getLog().getTickCount() + " tick ไปที่ " + recordPath);
+        } catch (IOException e) {
+            System.err.println("⚠️ บันทึกอินพุตไม่สำเร็จ: " + e.getMessage());
+        }
+    }
+
+    void setViewSize(int width, int height) {
+        this.viewWidth = width;
+        this.viewHeight = height;
+    }
+
+    // The loop always ticks at Simulation.STEP_MS, so dt is not passed on
+    @Override
+    public void update(int dt) {
+        SoundManager.beginTick();
+        profiler.begin();
+        if (replayer != null) {
+            replayer.step();
+        } else if (recorder != null) {
+            recorder.step(input);
+        } else {
+            sim.step(input);
+        }
+        profiler.lap(P_TICK);
+        updateCamera();
+        profiler.lap(P_CAMERA);
+        TickEvent.emit(sim.getTick(), sim.getProfiler(), profiler.getLast(P_TICK), profiler.getLast(P_CAMERA));
+        if (sim.getTick() % PROFILE_WINDOW_TICKS == 0) {
+            profiler.roll();
+            sim.getProfiler().roll();
+        }
+
+        addEnemyViews();
+        Gem gem = sim.getGem();
+        if (gemView == null && gem != null) {
+            gemView = new GemView(gem);
+            scene.add(gemView);
+        }
+        if (sim.isOver() || (replayer != null && replayer.isFinished())) {
+            stopLoop();
+            saveRecording();
+            if (replayer != null) reportReplay();
+        }
+    }
+
+    // Only minions the pool had to construct mid-game need one; prewarmed ones got theirs up front
+    private void addEnemyViews() {
+        EnemyPool pool = sim.getEnemyPool();
+        for (int n = pool.getCreatedCount(); enemyViews < n; enemyViews++) {
+            Enemy e = pool.getCreated(enemyViews);
+            attach(e, new EnemyView(e));
+        }
+    }
+
+    private void attach(Entity e, Renderable view) {
+        views.put(e, view);
+        scene.add(view);
+    }
+
+    /**
+     * Ends the scene: stops the loop, closes the simulation (every entity is
+     * disposed, taking its view with it) and withdraws the MBean.
+     * @return what the scene still holds afterwards; clean unless something leaked
+     */
+    LeakReport dispose() {
+        stopLoop();
+        sim.close();
+        if (gemView != null) {
+            scene.remove(gemView);
+            gemView = null;
+        }
+        if (stats != null) {
+            stats.unregister();
+            stats = null;
+        }
+        return new LeakReport("scene")
+                .check("entity store handles", sim.getStore().getLiveCount())
+                .check("entity views", scene.size())
+                .check("game loop", gameLoop != null && gameLoop.isRunning() ? 1 : 0)
+                .check("minion worker threads", sim.getLiveUpdateThreads())
+                .check("GameStats MBean", GameStats.isRegistered() ? 1 : 0);
+    }
+
+    private void reportReplay() {
+        long diverged = replayer.getDivergedTick();
+        System.out.println(diverged < 0
+                ? "เล่นซ้ำครบ " + sim.getTick() + " tick ตรงกับที่บันทึกไว้"
+                : "⚠️ เล่นซ้ำไม่ตรงกับที่บันทึกไว้ตั้งแต่ tick " + diverged);
+    }
+
+    private void updateCamera() {
+        int playerCenter = player.getXPos() + Player.FRAME_W / 2;
+        int halfScreen = Math.max(1, viewWidth / 2);
+        cameraX = playerCenter - halfScreen;
+        cameraX = Math.max(0, Math.min(cameraX, Math.max(0, bgWidth - viewWidth)));
+    }
+
+    // =============== Rendering ===============
+
+    /** Marks what changed on screen since the last call; the world must not tick in between. */
+    void collectDamage(DamageTracker damage) {
+        damage.beginFrame(viewWidth, viewHeight, cameraX);
+
+        boolean ended = sim.isOver();
+        boolean leftHalfCleared = sim.isLeftHalfCleared();
+        if (leftHalfCleared != shownCleared || ended != shownEnded) {
+            damage.markFull();   // overlay tint or end-of-game banner
+        }
+        if (player.getHp() != shownHp || player.isDebuffed() != shownDebuffed) {
+            // What the last frame drew and what this one will, so old text never lingers
+            damage.add(hudBox.x, hudBox.y, hudBox.width, hudBox.height);
+            hudBounds(hudBox);
+            damage.add(hudBox.x, hudBox.y, hudBox.width, hudBox.height);
+        }
+        shownHp = player.getHp();
+        shownDebuffed = player.isDebuffed();
+        shownCleared = leftHalfCleared;
+        shownEnded = ended;
+
+        if (profilerShown != shownProfiler) {
+            damage.markFull();
+        } else if (profilerShown) {
+            profilerBounds(profilerBox);
+            damage.add(profilerBox.x, profilerBox.y, profilerBox.width, profilerBox.height);
+        }
+        shownProfiler = profilerShown;
+
+        scene.collectDamage(damage);
+    }
+
+    /** Draws world (through the camera) and HUD into a view-sized surface. */
+    void render(Graphics2D g) {
+        long t0 = System.nanoTime();
+        g.translate(-cameraX, 0);
+        renderWorld(g);
+        g.translate(cameraX, 0);
+        drawHUD(g);
+        profiler.record(P_RENDER, System.nanoTime() - t0);
+    }
+
+
+    private void renderWorld(Graphics2D g) {
+        drawBackground(g);
+
+        // Entities, back to front, in a single pass
+        scene.render(g);
+    }
+
+    private final Rectangle bgVisible = new Rectangle();
+
+    // ✅ Cursed Zone Overlay (ม่วงโปร่งแสง), drawn once: a translucent fill allocates on every call
+    private Image bakeCursedTint(Image bg) {
+        BufferedImage baked = ResourceLoader.toCompatibleImage(bg);
+        Graphics2D g = baked.createGraphics();
+        g.setColor(CURSED_TINT);
+        g.fillRect(Simulation.WORLD_HALF_R, 0, bgWidth - Simulation.WORLD_HALF_R, bgHeight);
+        g.dispose();
+        return baked;
+    }
+
+    // Blits only the part of the background inside the camera window (and clip)
+    private void drawBackground(Graphics2D g) {
+        bgVisible.setBounds(Math.round(cameraX), 0, viewWidth, viewHeight);
+        Rectangle2D.intersect(bgVisible, DrawList.clipBounds(g, clipBox), bgVisible);
+        int x0 = Math.max(0, bgVisible.x), y0 = Math.max(0, bgVisible.y);
+        int x1 = Math.min(bgWidth, bgVisible.x + bgVisible.width);
+        int y1 = Math.min(bgHeight, bgVisible.y + bgVisible.height);
+        if (x1 > x0 && y1 > y0) {
+            g.drawImage(sim.isLeftHalfCleared() ? imgBgCursed : imgBg, x0, y0, x1, y1, x0, y0, x1, y1, null);
+        }
+    }
+
+    private void drawHUD(Graphics2D g2) {
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2.drawImage(hudIcon, HUD_X, HUD_Y, null);
+        buildHudLabels(g2.getFont());
+
+        int hp = player.getHp(), maxHp = player.getMaxHp();
+        float pct = Math.max(0f, Math.min(1f, hp / (float) maxHp));
+        int x = HUD_X + BAR_OFFSET_X, y = HUD_Y + BAR_OFFSET_Y;
+
+        g2.setColor(BAR_COLOR);
+        g2.fillRect(x, y, Math.round(BAR_W * pct), BAR_H);
+
+        g2.setColor(Color.BLACK);
+        g2.drawRect(x, y, BAR_W, BAR_H);
+
+        hpLabel().draw(g2, x + BAR_W - 100, y + BAR_H - 1);
+
+        // ✅ แสดงสถานะ Debuff
+        if (player.isDebuffed()) {
+            cursedLabel.draw(g2, HUD_X + CURSED_OFFSET_X, HUD_Y + CURSED_OFFSET_Y);
+        }
+
+        if (sim.isGameWon()) {
+            victoryLabel.draw(g2, (viewWidth - victoryLabel.getWidth()) / 2, 60);
+        }
+
+        if (sim.isGameDefeated()) {
+            defeatLabel.draw(g2, (viewWidth - defeatLabel.getWidth()) / 2, 60);
+        }
+
+        if (profilerShown) {
+            drawProfiler(g2);
+        }
+    }
+
+    private void profilerBounds(Rectangle out) {
+        int lines = 2 + sim.getProfiler().getPhaseCount() + profiler.getPhaseCount() + 3;
+        out.setBounds(viewWidth - PROFILER_W - 8, 8, PROFILER_W, lines * PROFILER_LINE + 6);
+    }
+
+    // Formats text every frame, so it allocates while shown; hidden it costs nothing
+    private void drawProfiler(Graphics2D g2) {
+        profilerBounds(profilerBox);
+        g2.setColor(PROFILER_BG);
+        g2.fillRect(profilerBox.x, profilerBox.y, profilerBox.width, profilerBox.height);
+
+        Font base = g2.getFont();
+        g2.setFont(PROFILER_FONT);
+        g2.setColor(Color.WHITE);
+        int x = profilerBox.x + 6, y = profilerBox.y + PROFILER_LINE;
+        g2.drawString(String.format("%-12s %8s %8s %8s", "phase (us)", "p50", "p99", "max"), x, y);
+
+        PhaseProfiler simProfile = sim.getProfiler();
+        y = drawPhase(g2, profiler, P_TICK, "", x, y);
+        for (int i = 0; i < simProfile.getPhaseCount(); i++) {
+            y = drawPhase(g2, simProfile, i, "  ", x, y);
+        }
+        for (int i = P_TICK + 1; i < profiler.getPhaseCount(); i++) {
+            y = drawPhase(g2, profiler, i, "", x, y);
+        }
+
+        Runtime rt = Runtime.getRuntime();
+        long usedMb = (rt.totalMemory() - rt.freeMemory()) >> 20;
+        y += PROFILER_LINE;
+        g2.drawString(String.format("entities %d live, %d views", sim.getStore().getLiveCount(), scene.size()), x, y);
+        y += PROFILER_LINE;
+        g2.drawString(String.format("minions %d out, %d pooled", sim.getEnemies().size(),
+                sim.getEnemyPool().getFreeCount()), x, y);
+        y += PROFILER_LINE;
+        g2.drawString(String.format("heap %d / %d MB", usedMb, rt.maxMemory() >> 20), x, y);
+        g2.setFont(base);
+    }
+
+    private static int drawPhase(Graphics2D g2, PhaseProfiler p, int phase, String indent, int x, int y) {
+        Histogram h = p.getWindow(phase);
+        y += PROFILER_LINE;
+        g2.drawString(String.format("%-12s %8.1f %8.1f %8.1f", indent + p.getName(phase),
+                h.percentile(0.50) / 1e3, h.percentile(0.99) / 1e3, h.getMax() / 1e3), x, y);
+        return y;
+    }
+
+    private TextSprite hpLabel() {
+        int hp = player.getHp();
+        if (hpLabel == null || hp != hpShown) {
+            hpLabel = new TextSprite(hp + " / " + player.getMaxHp(), hpFont, Color.WHITE);
+            hpShown = hp;
+        }
+        return hpLabel;
+    }
+
+    /** Everything drawHUD draws for the current HP and debuff: icon, bar and both labels. */
+    private void hudBounds(Rectangle out) {
+        out.setBounds(HUD_X, HUD_Y, hudIcon.getWidth(null), hudIcon.getHeight(null));
+        int x = HUD_X + BAR_OFFSET_X, y = HUD_Y + BAR_OFFSET_Y;
+        labelBox.setBounds(x, y, BAR_W + 1, BAR_H + 1);   // drawRect covers one extra pixel
+        out.add(labelBox);
+        if (hpFont == null) return;   // nothing drawn yet; the first frame is a full redraw anyway
+        out.add(hpLabel().getBounds(x + BAR_W - 100, y + BAR_H - 1, labelBox));
+        if (player.isDebuffed()) {
+            out.add(cursedLabel.getBounds(HUD_X + CURSED_OFFSET_X, HUD_Y + CURSED_OFFSET_Y, labelBox));
+        }
+    }
+
+    private void buildHudLabels(Font base) {
+        if (base == hudBaseFont) return;
+        hudBaseFont = base;
+        hpFont = base.deriveFont(Font.BOLD, 12f);
+        hpLabel = null;
+        cursedLabel = new TextSprite("⚠ CURSED ZONE", base.deriveFont(Font.BOLD, 14f), CURSED_TEXT_COLOR);
+        victoryLabel = new TextSprite("VICTORY!", base.deriveFont(Font.BOLD, 24f), Color.WHITE);
+        defeatLabel = new TextSprite("DEFEAT", base.deriveFont(Font.BOLD, 20f), DEFEAT_COLOR);
+    }
+
+    // =============== Input ===============
+
+    // Held until the next tick, which applies them in order; a replay ignores the keyboard
+    void keyPressed(int keyCode) {
+        if (keyCode == KeyEvent.VK_F3) {
+            profilerShown = !profilerShown;
+            return;
+        }
+        if (replayer != null) return;
+        Key key = toKey(keyCode);
+        if (key != null) input.press(key);
+    }
+
+    void keyReleased(int keyCode) {
+        if (replayer != null) return;
+        Key key = toKey(keyCode);
+        if (key != null) input.release(key);
+    }
+
+    private static Key toKey(int keyCode) {
+        return switch (keyCode) {
+            case KeyEvent.VK_A -> Key.LEFT;
+            case KeyEvent.VK_D -> Key.RIGHT;
+            case KeyEvent.VK_J -> Key.ATTACK;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.game;
+
+import com.example.game.core.*;
+import com.example.game.sim.Histogram;
+import com.example.game.sim.InputLog;
+import com.example.game.sim.InputReplayer;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Headless replay of a recorded session (-Dgame.record=file) for comparing
+ * builds: plays the log through the full scene, rendering every tick into
+ * an offscreen frame, and reports update + render times. The same log gives
+ * the same game on every build, so the numbers compare fairly.
+ *
+ * <pre>java -Djava.awt.headless=true -cp &lt;classes&gt; com.example.game.Replay &lt;log&gt; [runs]</pre>
+ *
+ * Only the last run is reported; the earlier ones warm up the JIT. Exits
+ * with status 1 when the replay diverges from the recording.
+ */
+class Replay {
+    private static final int VIEW_W = 928;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: Replay <log> [runs]");
+            System.exit(2);
+        }
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        InputLog log;
+        try (InputStream in = new FileInputStream(args[0])) {
+            log = InputLog.read(in);
+        }
+        Image bg = ResourceLoader.loadImage(GameScene.BG_PATH);
+        BufferedImage frame = ResourceLoader.createCompatibleImage(VIEW_W, log.getGroundHeight(), Transparency.OPAQUE);
+
+        Histogram update = new Histogram(), render = new Histogram();
+        long diverged = -1;
+        for (int i = 0; i < runs; i++) {
+            update.clear();
+            render.clear();
+            diverged = play(log, bg, frame, update, render);
+        }
+        System.out.printf("Replay: %d ticks, %d events%n", log.getTickCount(), log.getEventCount());
+        print("update", update);
+        print("render", render);
+        if (diverged >= 0) {
+            System.out.println("Replay: diverged from the recording at tick " + diverged);
+            System.exit(1);
+        }
+        System.out.println("Replay: every tick matched the recording");
+    }
+
+    private static long play(InputLog log, Image bg, BufferedImage frame, Histogram update, Histogram render) {
+        GameScene scene = new GameScene(bg);
+        scene.replayFrom(log);
+        scene.onViewReady(frame.getWidth(), frame.getHeight());
+        InputReplayer replayer = scene.getReplayer();
+        Graphics2D g = frame.createGraphics();
+        while (!replayer.isFinished()) {
+            long t0 = System.nanoTime();
+            scene.update(GameLoop.STEP_MS);
+            long t1 = System.nanoTime();
+            scene.render(g);
+            long t2 = System.nanoTime();
+            update.record(t1 - t0);
+            render.record(t2 - t1);
+        }
+        g.dispose();
+        LeakReport leaks = scene.dispose();
+        if (!leaks.isClean()) {
+            System.out.println(leaks);
+        }
+        return replayer.getDivergedTick();
+    }
+
+    private static void print(String name, Histogram h) {
+        System.out.printf("  %-6s p50 %7.1f us  p99 %7.1f us  max %7.1f us%n", name,
+                h.percentile(0.50) / 1e3, h.percentile(0.99) / 1e3, h.getMax() / 1e3);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.game.core;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Bytes allocated by the calling thread, from the JVM's per-thread
+ * allocation counter. Wrap a stretch of game ticks in {@link #start()} and
+ * {@link #bytesSinceStart()} to check that it does not allocate.
+ */
+public class AllocationProbe {
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    private long startBytes;
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /** -1 when the JVM cannot count allocations. */
+    public static long currentThreadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    public void start() {
+        startBytes = currentThreadAllocatedBytes();
+    }
+
+    public long bytesSinceStart() {
+        return currentThreadAllocatedBytes() - startBytes;
+    }
+}
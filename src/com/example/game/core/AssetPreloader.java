@@ -0,0 +1,95 @@
+package com.example.game.core;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms the {@link ResourceLoader} caches on a worker pool while the title
+ * screen is showing. Register everything first, then {@link #start()};
+ * scenes built afterwards get their assets straight from the caches.
+ */
+public class AssetPreloader {
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<Runnable> doneListeners = new ArrayList<>();
+    private final AtomicInteger completed = new AtomicInteger();
+    private ExecutorService pool;
+    private volatile int total = 0;
+    private boolean done = false;
+
+    public void image(String path) {
+        tasks.add(() -> ResourceLoader.loadImage(path));
+    }
+
+    public void sheet(SheetSpec spec) {
+        tasks.add(spec::load);
+    }
+
+    public void sound(String path) {
+        tasks.add(() -> ResourceLoader.loadSound(path));
+    }
+
+    public void start() {
+        if (pool != null) return;
+        total = tasks.size();
+        int threads = Math.max(1, Math.min(total, Runtime.getRuntime().availableProcessors()));
+        pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "asset-preloader");
+            t.setDaemon(true);
+            return t;
+        });
+        if (total == 0) {
+            finish();
+            return;
+        }
+        for (Runnable task : tasks) {
+            pool.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    System.err.println("โหลด asset ไม่สำเร็จ: " + e.getMessage());
+                }
+                if (completed.incrementAndGet() == total) {
+                    finish();
+                }
+            });
+        }
+        pool.shutdown();
+    }
+
+    private void finish() {
+        List<Runnable> listeners;
+        synchronized (this) {
+            done = true;
+            listeners = new ArrayList<>(doneListeners);
+            doneListeners.clear();
+        }
+        for (Runnable r : listeners) {
+            SwingUtilities.invokeLater(r);
+        }
+    }
+
+    /** Runs {@code r} on the EDT once every asset is loaded (right away if already done). */
+    public void whenDone(Runnable r) {
+        synchronized (this) {
+            if (!done) {
+                doneListeners.add(r);
+                return;
+            }
+        }
+        SwingUtilities.invokeLater(r);
+    }
+
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    /** 0..1 */
+    public float getProgress() {
+        int t = total;
+        return t == 0 ? (pool != null ? 1f : 0f) : completed.get() / (float) t;
+    }
+}
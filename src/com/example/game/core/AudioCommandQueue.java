@@ -0,0 +1,99 @@
+package com.example.game.core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free hand-off of audio commands from game code to the mixer thread.
+ * Posting never touches the output line, so it cannot stall a game tick.
+ * A sound triggered several times within the same game tick is played once.
+ */
+public class AudioCommandQueue {
+    enum Type { PLAY, STOP, VOLUME }
+
+    static final class Command {
+        final Type type;
+        final SoundBuffer sound;   // null = all sounds / master
+        final float gain;
+        final int priority;
+        final long postedNanos;
+
+        Command(Type type, SoundBuffer sound, float gain, int priority) {
+            this.type = type;
+            this.sound = sound;
+            this.gain = gain;
+            this.priority = priority;
+            this.postedNanos = System.nanoTime();
+        }
+    }
+
+    private final Queue<Command> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicLong tick = new AtomicLong();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final AtomicLong merged = new AtomicLong();
+
+    // Latency metrics; written only by the mixer thread
+    private volatile long drained = 0;
+    private volatile long lastLatencyNanos = 0;
+    private volatile long maxLatencyNanos = 0;
+    private volatile long totalLatencyNanos = 0;
+
+    /** Starts a new game tick; duplicate triggers are only merged within one tick. */
+    public void nextTick() {
+        tick.incrementAndGet();
+    }
+
+    public void postPlay(SoundBuffer sound, float gain, int priority) {
+        if (sound == null) return;
+        long now = tick.get();
+        if (sound.markTriggered(now) == now) {
+            merged.incrementAndGet();
+            return;
+        }
+        post(new Command(Type.PLAY, sound, gain, priority));
+    }
+
+    /** Stops every voice of {@code sound}, or all voices when it is null. */
+    public void postStop(SoundBuffer sound) {
+        post(new Command(Type.STOP, sound, 0f, 0));
+    }
+
+    /** Sets the gain of playing voices of {@code sound}, or the master gain when it is null. */
+    public void postVolume(SoundBuffer sound, float gain) {
+        post(new Command(Type.VOLUME, sound, gain, 0));
+    }
+
+    private void post(Command c) {
+        queue.offer(c);
+        maxDepth.accumulateAndGet(depth.incrementAndGet(), Math::max);
+    }
+
+    /** Mixer thread only. */
+    Command poll() {
+        Command c = queue.poll();
+        if (c != null) {
+            depth.decrementAndGet();
+            long latency = System.nanoTime() - c.postedNanos;
+            lastLatencyNanos = latency;
+            if (latency > maxLatencyNanos) maxLatencyNanos = latency;
+            totalLatencyNanos += latency;
+            drained++;
+        }
+        return c;
+    }
+
+    public int getDepth() { return depth.get(); }
+    public int getMaxDepth() { return maxDepth.get(); }
+    public long getDrainedCount() { return drained; }
+    public long getMergedCount() { return merged.get(); }
+    public long getLastLatencyNanos() { return lastLatencyNanos; }
+    public long getMaxLatencyNanos() { return maxLatencyNanos; }
+
+    public long getAverageLatencyNanos() {
+        long n = drained;
+        return n == 0 ? 0 : totalLatencyNanos / n;
+    }
+}
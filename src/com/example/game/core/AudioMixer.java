@@ -0,0 +1,232 @@
+package com.example.game.core;
+
+import javax.sound.sampled.AudioFormat;
+import java.util.Arrays;
+
+/**
+ * Software mixer: every active voice is summed into one output line.
+ * The number of voices is capped; when all are busy a new sound steals the
+ * lowest-priority (then oldest) voice, or is dropped if everything playing
+ * matters more.
+ * <p>
+ * Voices belong to the mixer thread. Game code only posts to
+ * {@link #getCommands()}, which is drained at the start of every block.
+ */
+public class AudioMixer {
+    public static final int SAMPLE_RATE = 44100;
+    public static final int CHANNELS = 2;
+    public static final int FRAME_BYTES = CHANNELS * 2;
+    public static final int BLOCK_FRAMES = 512;
+    public static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, CHANNELS, true, false);
+
+    private static final class Voice {
+        SoundBuffer sound;
+        int position;      // in frames
+        float gain;
+        int priority;
+        long seq;
+    }
+
+    private final AudioOutput output;
+    private final Voice[] voices;
+    private final AudioCommandQueue commands = new AudioCommandQueue();
+    private volatile MusicPlayer music;
+    private float masterGain = 1f;
+    private final int[] mixBuf = new int[BLOCK_FRAMES * CHANNELS];
+    private final byte[] outBuf = new byte[BLOCK_FRAMES * FRAME_BYTES];
+
+    private long voiceSeq = 0;
+    private volatile int activeVoices = 0;
+    private volatile long stolenVoices = 0;
+    private volatile long rejectedVoices = 0;
+
+    private Thread thread;
+    private volatile boolean running = false;
+
+    public AudioMixer(AudioOutput output, int maxVoices) {
+        this.output = output;
+        this.voices = new Voice[Math.max(1, maxVoices)];
+        for (int i = 0; i < voices.length; i++) {
+            voices[i] = new Voice();
+        }
+    }
+
+    /** Starts a daemon thread that keeps the output fed; the line's blocking write paces it. */
+    public void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(() -> {
+            while (running) {
+                mixBlock();
+            }
+        }, "audio-mixer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            try {
+                thread.join(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        output.close();
+    }
+
+    public AudioCommandQueue getCommands() {
+        return commands;
+    }
+
+    public void setMusic(MusicPlayer music) {
+        this.music = music;
+    }
+
+    private void drainCommands() {
+        AudioCommandQueue.Command c;
+        while ((c = commands.poll()) != null) {
+            switch (c.type) {
+                case PLAY -> startVoice(c.sound, c.gain, c.priority);
+                case STOP -> {
+                    for (Voice v : voices) {
+                        if (c.sound == null || v.sound == c.sound) v.sound = null;
+                    }
+                }
+                case VOLUME -> {
+                    if (c.sound == null) {
+                        masterGain = c.gain;
+                    } else {
+                        for (Voice v : voices) {
+                            if (v.sound == c.sound) v.gain = c.gain;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void startVoice(SoundBuffer sound, float gain, int priority) {
+        if (sound.getFrameCount() == 0) return;
+
+        Voice slot = null;
+        for (Voice v : voices) {
+            if (v.sound == null) {
+                slot = v;
+                break;
+            }
+            if (slot == null || v.priority < slot.priority
+                    || (v.priority == slot.priority && v.seq < slot.seq)) {
+                slot = v;
+            }
+        }
+        if (slot.sound != null) {
+            if (slot.priority > priority) {
+                rejectedVoices++;
+                return;
+            }
+            stolenVoices++;
+        }
+
+        slot.sound = sound;
+        slot.position = 0;
+        slot.gain = gain;
+        slot.priority = priority;
+        slot.seq = voiceSeq++;
+    }
+
+    /** Mixes one block and hands it to the output. */
+    public void mixBlock() {
+        render(outBuf, BLOCK_FRAMES);
+        output.write(outBuf, 0, BLOCK_FRAMES * FRAME_BYTES);
+    }
+
+    /**
+     * Applies pending commands, then mixes {@code frames} frames of all active
+     * voices into {@code out} as 16-bit LE stereo. Mixer thread only.
+     */
+    public void render(byte[] out, int frames) {
+        drainCommands();
+
+        int samples = frames * CHANNELS;
+        int[] acc = samples <= mixBuf.length ? mixBuf : new int[samples];
+        Arrays.fill(acc, 0, samples, 0);
+
+        MusicPlayer m = music;
+        if (m != null) {
+            m.mixInto(acc, frames);
+        }
+
+        int active = 0;
+        for (Voice v : voices) {
+            if (v.sound == null) continue;
+            short[] src = v.sound.samples();
+            int n = Math.min(frames, v.sound.getFrameCount() - v.position);
+            int base = v.position * CHANNELS;
+            float gain = v.gain * masterGain;
+            for (int i = 0; i < n * CHANNELS; i++) {
+                acc[i] += (int) (src[base + i] * gain);
+            }
+            v.position += n;
+            if (v.position >= v.sound.getFrameCount()) {
+                v.sound = null;
+            } else {
+                active++;
+            }
+        }
+        activeVoices = active;
+
+        for (int i = 0, b = 0; i < samples; i++) {
+            int s = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, acc[i]));
+            out[b++] = (byte) s;
+            out[b++] = (byte) (s >> 8);
+        }
+    }
+
+    public int getActiveVoices() { return activeVoices; }
+    public int getMaxVoices() { return voices.length; }
+    public long getStolenVoices() { return stolenVoices; }
+    public long getRejectedVoices() { return rejectedVoices; }
+
+    // ---- format helpers used when decoding ----
+
+    /** Signed 16-bit little-endian PCM with the source's rate and channel count. */
+    static AudioFormat pcm16(AudioFormat src) {
+        int ch = Math.max(1, src.getChannels());
+        return new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, src.getSampleRate(), 16,
+                ch, ch * 2, src.getSampleRate(), false);
+    }
+
+    /**
+     * Converts {@link #pcm16} bytes to interleaved stereo at {@link #SAMPLE_RATE},
+     * resampling linearly when the rates differ.
+     */
+    static short[] toMixFormat(byte[] bytes, int len, AudioFormat fmt) {
+        int ch = fmt.getChannels();
+        int inFrames = len / (ch * 2);
+        float rate = fmt.getSampleRate();
+        int outFrames = rate == SAMPLE_RATE ? inFrames : (int) ((long) inFrames * SAMPLE_RATE / (long) rate);
+        short[] out = new short[outFrames * CHANNELS];
+        double step = rate / SAMPLE_RATE;
+
+        for (int f = 0; f < outFrames; f++) {
+            double pos = f * step;
+            int i0 = Math.min((int) pos, inFrames - 1);
+            int i1 = Math.min(i0 + 1, inFrames - 1);
+            double t = pos - (int) pos;
+            for (int c = 0; c < CHANNELS; c++) {
+                int srcCh = Math.min(c, ch - 1);
+                int a = sample(bytes, i0, ch, srcCh);
+                int b = sample(bytes, i1, ch, srcCh);
+                out[f * CHANNELS + c] = (short) Math.round(a + (b - a) * t);
+            }
+        }
+        return out;
+    }
+
+    private static int sample(byte[] bytes, int frame, int channels, int channel) {
+        int i = (frame * channels + channel) * 2;
+        return (short) ((bytes[i] & 0xFF) | (bytes[i + 1] << 8));
+    }
+}
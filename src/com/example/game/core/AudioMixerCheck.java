@@ -0,0 +1,86 @@
+package com.example.game.core;
+
+import java.util.Arrays;
+
+/**
+ * Voice-allocation check for the mixer: drives an {@link AudioMixer} into a
+ * {@link MemoryAudioOutput} without a thread or a sound card and checks the
+ * voice cap, priority stealing and rejection counts.
+ *
+ * <pre>java -cp &lt;classes&gt; com.example.game.core.AudioMixerCheck</pre>
+ *
+ * Exits with status 1 on the first failed expectation.
+ */
+class AudioMixerCheck {
+    private static final short LEVEL = 100;         // every test sound is a flat tone at this level
+    private static final int SOUND_BLOCKS = 8;      // long enough to stay playing for the whole script
+
+    private static int serial = 0;
+
+    public static void main(String[] args) {
+        MemoryAudioOutput out = new MemoryAudioOutput();
+        AudioMixer mixer = new AudioMixer(out, SoundManager.MAX_VOICES);
+        AudioCommandQueue commands = mixer.getCommands();
+        int cap = mixer.getMaxVoices();
+
+        // Fill every voice; all of them sound in the first block
+        for (int i = 0; i < cap; i++) {
+            commands.postPlay(newSound(), 1f, SoundManager.PRIORITY_NORMAL);
+        }
+        mixer.mixBlock();
+        expect("voices at the cap", mixer.getActiveVoices(), cap);
+        expect("first sample mixes every voice", firstSample(out), cap * LEVEL);
+        expect("stolen with free voices", mixer.getStolenVoices(), 0);
+
+        // One over the cap at equal priority takes the oldest voice
+        commands.postPlay(newSound(), 1f, SoundManager.PRIORITY_NORMAL);
+        mixer.mixBlock();
+        expect("voices past the cap", mixer.getActiveVoices(), cap);
+        expect("stolen at equal priority", mixer.getStolenVoices(), 1);
+
+        // A lower priority cannot displace anything
+        commands.postPlay(newSound(), 1f, SoundManager.PRIORITY_LOW);
+        mixer.mixBlock();
+        expect("rejected at lower priority", mixer.getRejectedVoices(), 1);
+        expect("stolen at lower priority", mixer.getStolenVoices(), 1);
+
+        // High priority takes every normal voice, then normal ones are turned away
+        for (int i = 0; i < cap; i++) {
+            commands.postPlay(newSound(), 1f, SoundManager.PRIORITY_HIGH);
+        }
+        commands.postPlay(newSound(), 1f, SoundManager.PRIORITY_NORMAL);
+        mixer.mixBlock();
+        expect("voices after high-priority burst", mixer.getActiveVoices(), cap);
+        expect("stolen by high priority", mixer.getStolenVoices(), 1 + cap);
+        expect("rejected under high priority", mixer.getRejectedVoices(), 2);
+
+        // Every voice runs out and frees its slot
+        for (int i = 0; i < SOUND_BLOCKS; i++) {
+            mixer.mixBlock();
+        }
+        expect("voices after the sounds end", mixer.getActiveVoices(), 0);
+        expect("bytes written", out.size(), (4 + SOUND_BLOCKS) * AudioMixer.BLOCK_FRAMES * AudioMixer.FRAME_BYTES);
+
+        System.out.printf("AudioMixerCheck: ok (cap %d, stolen %d, rejected %d)%n",
+                cap, mixer.getStolenVoices(), mixer.getRejectedVoices());
+    }
+
+    /** A distinct buffer each call, so the queue never merges two triggers. */
+    private static SoundBuffer newSound() {
+        short[] samples = new short[SOUND_BLOCKS * AudioMixer.BLOCK_FRAMES * AudioMixer.CHANNELS];
+        Arrays.fill(samples, LEVEL);
+        return new SoundBuffer("check-" + serial++, samples);
+    }
+
+    private static int firstSample(MemoryAudioOutput out) {
+        byte[] bytes = out.toByteArray();
+        return (short) ((bytes[0] & 0xff) | (bytes[1] << 8));
+    }
+
+    private static void expect(String what, long actual, long expected) {
+        if (actual != expected) {
+            System.err.printf("AudioMixerCheck: %s = %d, expected %d%n", what, actual, expected);
+            System.exit(1);
+        }
+    }
+}
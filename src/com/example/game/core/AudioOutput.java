@@ -0,0 +1,32 @@
+package com.example.game.core;
+
+import javax.sound.sampled.*;
+
+/**
+ * Where the mixer writes its 16-bit little-endian stereo blocks.
+ * The game uses a {@link SourceDataLine}; {@link AudioMixerCheck} uses a {@link MemoryAudioOutput}.
+ */
+public interface AudioOutput {
+    /** Writes mixed bytes; may block to pace the mixer thread. */
+    void write(byte[] data, int off, int len);
+
+    void close();
+
+    static AudioOutput openLine() throws LineUnavailableException {
+        SourceDataLine line = AudioSystem.getSourceDataLine(AudioMixer.FORMAT);
+        line.open(AudioMixer.FORMAT, AudioMixer.BLOCK_FRAMES * AudioMixer.FRAME_BYTES * 4);
+        line.start();
+        return new AudioOutput() {
+            @Override
+            public void write(byte[] data, int off, int len) {
+                line.write(data, off, len);
+            }
+
+            @Override
+            public void close() {
+                line.stop();
+                line.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.game.core;
+
+import java.awt.Rectangle;
+
+/**
+ * Collects the screen regions that changed this frame so the renderer can
+ * redraw only those. Overlapping regions are merged; if the camera moved or
+ * the regions cover most of the view, the frame falls back to a full redraw.
+ */
+public class DamageTracker {
+    private static final int MAX_RECTS = 32;
+    private static final float FULL_REDRAW_RATIO = 0.6f;
+
+    private final Rectangle[] rects = new Rectangle[MAX_RECTS];
+    private int count = 0;
+    private boolean full = true;
+    private int viewW, viewH;
+    private float cameraX = Float.NaN;
+
+    // Metrics
+    private long lastPixels = 0;
+    private long totalPixels = 0;
+    private long frames = 0;
+
+    public DamageTracker() {
+        for (int i = 0; i < MAX_RECTS; i++) {
+            rects[i] = new Rectangle();
+        }
+    }
+
+    /** Starts a frame; a scrolled camera or resized view damages everything. */
+    public void beginFrame(int viewW, int viewH, float cameraX) {
+        count = 0;
+        full = viewW != this.viewW || viewH != this.viewH || cameraX != this.cameraX;
+        this.viewW = viewW;
+        this.viewH = viewH;
+        this.cameraX = cameraX;
+    }
+
+    public void markFull() {
+        full = true;
+    }
+
+    /** Adds a region given in world coordinates. */
+    public void addWorld(Rectangle r) {
+        if (!r.isEmpty()) {
+            add(Math.round(r.x - cameraX), r.y, r.width, r.height);
+        }
+    }
+
+    /** Adds a region given in screen coordinates. */
+    public void add(int x, int y, int w, int h) {
+        if (full) return;
+        int x0 = Math.max(0, x), y0 = Math.max(0, y);
+        int x1 = Math.min(viewW, x + w), y1 = Math.min(viewH, y + h);
+        if (x1 <= x0 || y1 <= y0) return;
+
+        // Merge into an overlapping region, then keep merging while the union grows into others
+        Rectangle merged = null;
+        for (int i = 0; i < count; i++) {
+            Rectangle r = rects[i];
+            if (r.x < x1 && x0 < r.x + r.width && r.y < y1 && y0 < r.y + r.height) {
+                r.add(x0, y0);
+                r.add(x1, y1);
+                merged = r;
+                break;
+            }
+        }
+        if (merged == null) {
+            if (count == MAX_RECTS) {
+                merged = rects[count - 1];
+                merged.add(x0, y0);
+                merged.add(x1, y1);
+            } else {
+                merged = rects[count++];
+                merged.setBounds(x0, y0, x1 - x0, y1 - y0);
+            }
+        }
+        coalesce(merged);
+
+        if (pixels() > (long) (viewW * (long) viewH * FULL_REDRAW_RATIO)) {
+            full = true;
+        }
+    }
+
+    private void coalesce(Rectangle grown) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < count; i++) {
+                Rectangle r = rects[i];
+                if (r != grown && r.intersects(grown)) {
+                    grown.add(r);
+                    rects[i] = rects[count - 1];
+                    rects[count - 1] = r;
+                    count--;
+                    changed = true;
+                    break;
+                }
+            }
+        }
+    }
+
+    private long pixels() {
+        long p = 0;
+        for (int i = 0; i < count; i++) {
+            p += (long) rects[i].width * rects[i].height;
+        }
+        return p;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public int getRectCount() {
+        return full ? 0 : count;
+    }
+
+    public Rectangle getRect(int i) {
+        return rects[i];
+    }
+
+    /** Records how many pixels the renderer actually redrew this frame. */
+    public void recordPixels(long pixels) {
+        lastPixels = pixels;
+        totalPixels += pixels;
+        frames++;
+    }
+
+    /** Pixels the current frame asks to redraw. */
+    public long getDamagedPixels() {
+        return full ? (long) viewW * viewH : pixels();
+    }
+
+    public long getLastPixels() { return lastPixels; }
+
+    public long getAveragePixels() {
+        return frames == 0 ? 0 : totalPixels / frames;
+    }
+}
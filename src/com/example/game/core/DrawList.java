@@ -0,0 +1,99 @@
+package com.example.game.core;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.util.Arrays;
+
+/**
+ * Z-ordered list of everything in the scene, drawn in one pass.
+ * Kept sorted on insert; items with equal z draw in insertion order.
+ * Remembers where each item was last drawn, for damage tracking.
+ */
+public class DrawList {
+    private Renderable[] items = new Renderable[16];
+    private Rectangle[] lastBounds = new Rectangle[16];
+    private int size = 0;
+    private final Rectangle removed = new Rectangle();
+    private final Rectangle scratch = new Rectangle();
+    private final Rectangle clip = new Rectangle();
+
+    public void add(Renderable r) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+            lastBounds = Arrays.copyOf(lastBounds, size * 2);
+        }
+        int i = size;
+        while (i > 0 && items[i - 1].getZOrder() > r.getZOrder()) {
+            items[i] = items[i - 1];
+            lastBounds[i] = lastBounds[i - 1];
+            i--;
+        }
+        items[i] = r;
+        lastBounds[i] = new Rectangle();
+        size++;
+    }
+
+    public boolean remove(Renderable r) {
+        for (int i = 0; i < size; i++) {
+            if (items[i] == r) {
+                Rectangle last = lastBounds[i];
+                if (!last.isEmpty()) {
+                    if (removed.isEmpty()) removed.setBounds(last);
+                    else removed.add(last);
+                }
+                System.arraycopy(items, i + 1, items, i, size - i - 1);
+                System.arraycopy(lastBounds, i + 1, lastBounds, i, size - i - 1);
+                items[--size] = null;
+                lastBounds[size] = null;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Damages where every item was drawn last frame and where it will be
+     * drawn now, then remembers the new bounds.
+     */
+    public void collectDamage(DamageTracker damage) {
+        if (!removed.isEmpty()) {
+            damage.addWorld(removed);
+            removed.setBounds(0, 0, 0, 0);
+        }
+        for (int i = 0; i < size; i++) {
+            Rectangle last = lastBounds[i];
+            damage.addWorld(last);
+            if (items[i].getDrawBounds(scratch)) {
+                damage.addWorld(scratch);
+                last.setBounds(scratch);
+            } else {
+                last.setBounds(0, 0, 0, 0);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Clip bounds without {@code Graphics.getClip()}, which copies the shape.
+     * With no clip set, the result covers everything.
+     */
+    public static Rectangle clipBounds(Graphics2D g, Rectangle out) {
+        out.setBounds(Integer.MIN_VALUE / 2, Integer.MIN_VALUE / 2, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        return g.getClipBounds(out);
+    }
+
+    /** Draws every item that intersects the current clip. */
+    public void render(Graphics2D g) {
+        clipBounds(g, clip);
+        for (int i = 0; i < size; i++) {
+            Renderable r = items[i];
+            if (!r.getDrawBounds(scratch) || !scratch.intersects(clip)) {
+                continue;
+            }
+            r.render(g);
+        }
+    }
+}
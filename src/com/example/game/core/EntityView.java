@@ -0,0 +1,74 @@
+package com.example.game.core;
+
+import com.example.game.sim.AnimatedEntity;
+import com.example.game.sim.EntityDefinition;
+
+import java.awt.*;
+
+/**
+ * Draws a simulated {@link AnimatedEntity}: one sprite sheet per state, in
+ * ordinal order, showing whatever frame the entity's clip is on. The view
+ * keeps no game state of its own, so it can be dropped and rebuilt freely.
+ */
+public class EntityView<E extends AnimatedEntity<?>> implements Renderable {
+    protected final E entity;
+    private final SpriteSheet[] sheets;
+    private final int zOrder;
+
+    public EntityView(E entity, SheetSpec[] specs, int zOrder) {
+        this.entity = entity;
+        this.zOrder = zOrder;
+        this.sheets = new SpriteSheet[specs.length];
+        for (int i = 0; i < specs.length; i++) {
+            sheets[i] = specs[i].load();
+        }
+    }
+
+    /**
+     * One sheet per state of {@code definition}, named {@code folder/prefix<n>.png}
+     * with the frame count the state declares. Prefixes go in state order.
+     */
+    public static <S extends Enum<S>> SheetSpec[] sheets(EntityDefinition<S> definition, String folder,
+                                                         int width, int height, String... prefixes) {
+        if (prefixes.length != definition.getStateCount()) {
+            throw new IllegalArgumentException("จำนวนชีตไม่ตรงกับจำนวนสถานะ: " + prefixes.length);
+        }
+        SheetSpec[] specs = new SheetSpec[prefixes.length];
+        for (int i = 0; i < prefixes.length; i++) {
+            int frames = definition.getFrameCount(definition.getState(i));
+            specs[i] = new SheetSpec(folder, prefixes[i], frames, width, height);
+        }
+        return specs;
+    }
+
+    public E getEntity() {
+        return entity;
+    }
+
+    /** Hook for blinking; gone entities are never drawn. */
+    protected boolean isVisible() {
+        return !entity.isGone();
+    }
+
+    @Override
+    public int getZOrder() {
+        return zOrder;
+    }
+
+    @Override
+    public boolean getDrawBounds(Rectangle out) {
+        if (entity.isGone()) return false;
+        SpriteSheet sheet = sheets[entity.getShownState()];
+        out.setBounds(entity.getXPos(), entity.getYPos(), sheet.getFrameWidth(), sheet.getFrameHeight());
+        return true;
+    }
+
+    @Override
+    public void render(Graphics2D g) {
+        if (!isVisible()) return;
+
+        SpriteSheet sheet = sheets[entity.getShownState()];
+        int frame = Math.min(entity.getShownFrame(), sheet.getFrameCount() - 1);
+        sheet.drawFrame(g, frame, entity.getXPos(), entity.getYPos(), entity.isFacingLeft());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.game.core;
+
+/**
+ * Running last / average / max of a per-frame duration in nanoseconds.
+ */
+public class FrameTimer {
+    private long last = 0;
+    private long max = 0;
+    private long total = 0;
+    private long count = 0;
+
+    public void record(long nanos) {
+        last = nanos;
+        if (nanos > max) max = nanos;
+        total += nanos;
+        count++;
+    }
+
+    public long getLastNanos() { return last; }
+    public long getMaxNanos() { return max; }
+    public long getCount() { return count; }
+
+    public long getAverageNanos() {
+        return count == 0 ? 0 : total / count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("last %.2f ms, avg %.2f ms, max %.2f ms over %d frames",
+                last / 1e6, getAverageNanos() / 1e6, max / 1e6, count);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.game.core;
+
+import com.example.game.sim.Simulation;
+import com.example.game.telemetry.GameStats;
+
+import javax.swing.Timer;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fixed-timestep loop: wall-clock time is collected in an accumulator and
+ * spent in fixed {@link #STEP_MS} simulation ticks, followed by a single
+ * render. By default a Swing timer drives it on the EDT; {@link #onThread}
+ * gives it a thread of its own, for hosts that render without the EDT.
+ */
+public class GameLoop implements GameStats.Loop {
+    public static final int STEP_MS = Simulation.STEP_MS;
+    private static final long STEP_NANOS = STEP_MS * 1_000_000L;
+    private static final int MAX_STEPS_PER_FRAME = 5;
+    private static final long RATE_WINDOW_NANOS = 1_000_000_000L;
+
+    private final Updatable simulation;
+    private final Runnable renderer;
+    private final Timer timer;          // null when the loop has its own thread
+    private Thread thread;
+
+    private volatile boolean running = false;
+    private long lastNanos;
+    private long accumulator;
+
+    // Stats
+    private long ticks = 0;
+    private long frames = 0;
+    private long caughtUpTicks = 0;
+    private long droppedTicks = 0;
+    private long rateStartNanos, rateStartTicks;
+    private volatile double tickRate;
+
+    public GameLoop(Updatable simulation, Runnable renderer) {
+        this(simulation, renderer, true);
+    }
+
+    private GameLoop(Updatable simulation, Runnable renderer, boolean swingTimer) {
+        this.simulation = simulation;
+        this.renderer = renderer;
+        if (swingTimer) {
+            this.timer = new Timer(STEP_MS, e -> frame());
+            this.timer.setCoalesce(true);
+        } else {
+            this.timer = null;
+        }
+    }
+
+    /**
+     * A loop that ticks and renders on its own "game-loop" thread, sleeping
+     * until the next tick is due. Anything the EDT wants to change must be
+     * handed over to that thread rather than applied directly.
+     */
+    public static GameLoop onThread(Updatable simulation, Runnable renderer) {
+        return new GameLoop(simulation, renderer, false);
+    }
+
+    public void start() {
+        if (running) return;
+        running = true;
+        lastNanos = System.nanoTime();
+        accumulator = 0;
+        rateStartNanos = lastNanos;
+        rateStartTicks = ticks;
+        if (timer != null) {
+            timer.start();
+            return;
+        }
+        thread = new Thread(() -> {
+            while (running) {
+                frame();
+                long wait = STEP_NANOS - accumulator - (System.nanoTime() - lastNanos);
+                if (wait > 0) LockSupport.parkNanos(wait);
+            }
+        }, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Stops ticking; from another thread, also waits for the loop thread to finish its frame. */
+    public void stop() {
+        running = false;
+        if (timer != null) {
+            timer.stop();
+        } else if (thread != null && thread != Thread.currentThread()) {
+            try {
+                thread.join(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void frame() {
+        long now = System.nanoTime();
+        accumulator += now - lastNanos;
+        lastNanos = now;
+
+        int steps = 0;
+        while (running && accumulator >= STEP_NANOS && steps < MAX_STEPS_PER_FRAME) {
+            simulation.update(STEP_MS);
+            accumulator -= STEP_NANOS;
+            steps++;
+            ticks++;
+        }
+
+        if (steps > 1) {
+            caughtUpTicks += steps - 1;
+        }
+        // Too far behind (e.g. after a stall): drop the backlog instead of spiralling
+        if (accumulator >= STEP_NANOS) {
+            droppedTicks += accumulator / STEP_NANOS;
+            accumulator %= STEP_NANOS;
+        }
+
+        renderer.run();
+        frames++;
+
+        if (now - rateStartNanos >= RATE_WINDOW_NANOS) {
+            tickRate = (ticks - rateStartTicks) * 1e9 / (now - rateStartNanos);
+            rateStartNanos = now;
+            rateStartTicks = ticks;
+        }
+    }
+
+    @Override public long getTicks() { return ticks; }
+    @Override public long getFrames() { return frames; }
+    public long getCaughtUpTicks() { return caughtUpTicks; }
+    @Override public long getDroppedTicks() { return droppedTicks; }
+    /** Ticks per second over the last whole second, measured by the loop; safe to read from any thread. */
+    @Override public double getTickRate() { return tickRate; }
+}
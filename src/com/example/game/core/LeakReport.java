@@ -0,0 +1,44 @@
+package com.example.game.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What a torn-down scene still holds: each check names a resource and how
+ * many of it should have been released but were not. Printed when a scene
+ * ends, so a leak shows up at the end of the session that caused it.
+ */
+public class LeakReport {
+    private final String scope;
+    private final List<String> leaks = new ArrayList<>();
+    private int checks = 0;
+
+    public LeakReport(String scope) {
+        this.scope = scope;
+    }
+
+    /** Records {@code resource} as leaked when {@code stillHeld} is above zero. */
+    public LeakReport check(String resource, long stillHeld) {
+        checks++;
+        if (stillHeld > 0) {
+            leaks.add(resource + ": " + stillHeld);
+        }
+        return this;
+    }
+
+    public boolean isClean() {
+        return leaks.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        if (leaks.isEmpty()) {
+            return "[" + scope + "] no leaks (" + checks + " resources checked)";
+        }
+        StringBuilder sb = new StringBuilder("[" + scope + "] ⚠️ leaked " + leaks.size() + " of " + checks + " resources:");
+        for (String leak : leaks) {
+            sb.append("\n  ").append(leak);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.game.core;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * In-memory stand-in for the audio line: keeps every mixed byte instead of
+ * playing it, for {@link AudioMixerCheck}. Drive it with
+ * {@link AudioMixer#mixBlock()}.
+ */
+public class MemoryAudioOutput implements AudioOutput {
+    private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+    @Override
+    public synchronized void write(byte[] data, int off, int len) {
+        written.write(data, off, len);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    public synchronized byte[] toByteArray() {
+        return written.toByteArray();
+    }
+
+    public synchronized int size() {
+        return written.size();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.game.core;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Streams background music into the {@link AudioMixer}. Starting a new
+ * track cross-fades from the current one.
+ */
+public class MusicPlayer {
+    private MusicStream current;
+    private final List<MusicStream> fadingOut = new ArrayList<>();
+    private short[] scratch = new short[AudioMixer.BLOCK_FRAMES * AudioMixer.CHANNELS];
+
+    /** Loops the whole track. */
+    public void play(String path, int fadeMs) {
+        play(path, true, 0, -1, fadeMs);
+    }
+
+    /**
+     * @param loopStart first frame (at {@link AudioMixer#SAMPLE_RATE}) replayed when looping
+     * @param loopEnd   frame where playback jumps back to loopStart, -1 for end of file
+     */
+    public synchronized void play(String path, boolean loop, int loopStart, int loopEnd, int fadeMs) {
+        int fadeFrames = toFrames(fadeMs);
+        fadeOutCurrent(fadeFrames);
+
+        MusicStream stream = new MusicStream(path, loop, loopStart, loopEnd);
+        stream.setGain(fadeFrames > 0 ? 0f : 1f);
+        stream.fadeTo(1f, fadeFrames);
+        stream.start();
+        current = stream;
+    }
+
+    public synchronized void stop(int fadeMs) {
+        fadeOutCurrent(toFrames(fadeMs));
+    }
+
+    public synchronized boolean isPlaying() {
+        return current != null && !current.isFinished();
+    }
+
+    private void fadeOutCurrent(int fadeFrames) {
+        if (current == null) return;
+        if (fadeFrames > 0) {
+            current.fadeTo(0f, fadeFrames);
+            fadingOut.add(current);
+        } else {
+            current.close();
+        }
+        current = null;
+    }
+
+    /** Called by the mixer thread for every block. */
+    synchronized void mixInto(int[] acc, int frames) {
+        if (scratch.length < frames * AudioMixer.CHANNELS) {
+            scratch = new short[frames * AudioMixer.CHANNELS];
+        }
+        if (current != null) {
+            current.mixInto(acc, frames, scratch);
+        }
+        Iterator<MusicStream> it = fadingOut.iterator();
+        while (it.hasNext()) {
+            MusicStream s = it.next();
+            s.mixInto(acc, frames, scratch);
+            if (!s.isFading() || s.isFinished()) {
+                s.close();
+                it.remove();
+            }
+        }
+    }
+
+    private static int toFrames(int ms) {
+        return (int) ((long) Math.max(0, ms) * AudioMixer.SAMPLE_RATE / 1000);
+    }
+}
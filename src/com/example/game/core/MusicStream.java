@@ -0,0 +1,159 @@
+package com.example.game.core;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.IOException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * One music track streamed from disk. A daemon thread decodes the WAV in
+ * chunks into a ring buffer about a second deep; the mixer drains it.
+ * Looping restarts decoding at the loop-start frame.
+ */
+class MusicStream implements Runnable {
+    private static final int RING_FRAMES = AudioMixer.SAMPLE_RATE;
+    private static final int CHUNK_BYTES = 16 * 1024;
+
+    private final String path;
+    private final int loopStart;   // mixer frames
+    private final int loopEnd;     // mixer frames, -1 = end of file
+    private final boolean loop;
+    private final PcmRingBuffer ring = new PcmRingBuffer(RING_FRAMES * AudioMixer.CHANNELS);
+
+    private volatile boolean closed = false;
+    private volatile boolean decodeDone = false;
+
+    // Fade state, only touched by the mixer thread under MusicPlayer's lock
+    private float gain = 1f;
+    private float gainStep = 0f;
+    private int fadeFramesLeft = 0;
+
+    MusicStream(String path, boolean loop, int loopStart, int loopEnd) {
+        this.path = path;
+        this.loop = loop;
+        this.loopStart = Math.max(0, loopStart);
+        this.loopEnd = loopEnd;
+    }
+
+    void start() {
+        Thread t = new Thread(this, "music-decoder");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    boolean isFinished() {
+        return closed || (decodeDone && ring.available() == 0);
+    }
+
+    @Override
+    public void run() {
+        int startFrame = 0;
+        try {
+            do {
+                if (!streamOnce(startFrame)) break;
+                startFrame = loopStart;
+            } while (loop && !closed);
+        } catch (IOException e) {
+            System.err.println("สตรีมเพลงไม่สำเร็จ: " + path + " → " + e.getMessage());
+        } finally {
+            decodeDone = true;
+        }
+    }
+
+    /** Decodes from startFrame to the loop end; false if the file cannot be opened. */
+    private boolean streamOnce(int startFrame) throws IOException {
+        try (AudioInputStream pcm = ResourceLoader.openAudioStream(path)) {
+            if (pcm == null) return false;
+            AudioFormat fmt = pcm.getFormat();
+            int frameSize = fmt.getFrameSize();
+            double srcPerMix = fmt.getSampleRate() / AudioMixer.SAMPLE_RATE;
+
+            long toSkip = (long) (startFrame * srcPerMix) * frameSize;
+            while (toSkip > 0) {
+                long skipped = pcm.skip(toSkip);
+                if (skipped <= 0) break;
+                toSkip -= skipped;
+            }
+
+            // One resampler for the pass, so chunk seams interpolate and the frame count does not drift
+            StreamResampler resampler = new StreamResampler(fmt);
+            byte[] chunk = new byte[CHUNK_BYTES - CHUNK_BYTES % frameSize];
+            long position = startFrame;
+            boolean eof = false;
+            while (!closed && !eof) {
+                int n = readFrames(pcm, chunk, frameSize);
+                eof = n <= 0;
+                int frames = eof ? resampler.finish() : resampler.process(chunk, n);
+                short[] samples = resampler.output();
+                if (loopEnd >= 0 && position + frames >= loopEnd) {
+                    frames = (int) Math.max(0, loopEnd - position);
+                    push(samples, frames * AudioMixer.CHANNELS);
+                    break;
+                }
+                push(samples, frames * AudioMixer.CHANNELS);
+                position += frames;
+            }
+            return true;
+        }
+    }
+
+    // Fills the chunk with whole frames, so a short read never splits one across chunks
+    private static int readFrames(AudioInputStream pcm, byte[] chunk, int frameSize) throws IOException {
+        int n = 0, r;
+        while (n < chunk.length && (r = pcm.read(chunk, n, chunk.length - n)) > 0) {
+            n += r;
+        }
+        return n - n % frameSize;
+    }
+
+    private void push(short[] samples, int len) {
+        int off = 0;
+        while (off < len && !closed) {
+            off += ring.write(samples, off, len - off);
+            if (off < len) {
+                LockSupport.parkNanos(2_000_000L);
+            }
+        }
+    }
+
+    void setGain(float gain) {
+        this.gain = gain;
+        this.fadeFramesLeft = 0;
+    }
+
+    float getGain() {
+        return gain;
+    }
+
+    void fadeTo(float target, int frames) {
+        if (frames <= 0) {
+            setGain(target);
+            return;
+        }
+        gainStep = (target - gain) / frames;
+        fadeFramesLeft = frames;
+    }
+
+    boolean isFading() {
+        return fadeFramesLeft > 0;
+    }
+
+    /** Adds up to {@code frames} frames into the mix; an underrun just plays silence. */
+    void mixInto(int[] acc, int frames, short[] scratch) {
+        int got = ring.read(scratch, 0, frames * AudioMixer.CHANNELS) / AudioMixer.CHANNELS;
+        for (int f = 0; f < got; f++) {
+            if (fadeFramesLeft > 0) {
+                gain += gainStep;
+                fadeFramesLeft--;
+            }
+            int i = f * AudioMixer.CHANNELS;
+            for (int c = 0; c < AudioMixer.CHANNELS; c++) {
+                acc[i + c] += (int) (scratch[i + c] * gain);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.game.core;
+
+/**
+ * Single-producer / single-consumer ring of 16-bit samples.
+ * The decoder thread writes, the mixer thread reads; neither ever locks.
+ */
+class PcmRingBuffer {
+    private final short[] data;
+    private final int mask;
+    private volatile long writePos = 0;
+    private volatile long readPos = 0;
+
+    /** @param capacity rounded up to a power of two */
+    PcmRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.data = new short[size];
+        this.mask = size - 1;
+    }
+
+    int available() {
+        return (int) (writePos - readPos);
+    }
+
+    int free() {
+        return data.length - available();
+    }
+
+    /** @return samples actually written (less than len when full) */
+    int write(short[] src, int off, int len) {
+        int n = Math.min(len, free());
+        long w = writePos;
+        for (int i = 0; i < n; i++) {
+            data[(int) (w + i) & mask] = src[off + i];
+        }
+        writePos = w + n;
+        return n;
+    }
+
+    /** @return samples actually read (less than len on underrun) */
+    int read(short[] dst, int off, int len) {
+        int n = Math.min(len, available());
+        long r = readPos;
+        for (int i = 0; i < n; i++) {
+            dst[off + i] = data[(int) (r + i) & mask];
+        }
+        readPos = r + n;
+        return n;
+    }
+}
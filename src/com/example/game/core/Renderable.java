@@ -0,0 +1,19 @@
+package com.example.game.core;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+
+/**
+ * Something the scene draws in world coordinates. Lower z-order draws first.
+ */
+public interface Renderable {
+    int getZOrder();
+
+    void render(Graphics2D g);
+
+    /**
+     * Writes the world-space area {@link #render} will touch into {@code out}.
+     * @return false if nothing is drawn this frame
+     */
+    boolean getDrawBounds(Rectangle out);
+}
@@ -1,57 +1,236 @@
 package com.example.game.core;
 
+import com.example.game.telemetry.AssetLoadEvent;
+
+import javax.imageio.ImageIO;
 import javax.sound.sampled.*;
-import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.io.*;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ResourceLoader {
     
+    // Sprite sheets are immutable, so one copy is shared by every entity instance
+    private static final Map<SheetSpec, SpriteSheet> sheetCache = new ConcurrentHashMap<>();
+    private static final Map<String, SoundBuffer> soundCache = new ConcurrentHashMap<>();
+    private static final Map<String, Image> imageCache = new ConcurrentHashMap<>();
+    
+    /** Loads an image once, already converted to the display's format. */
     public static Image loadImage(String path) {
+        Image img = imageCache.get(path);
+        if (img == null) {
+            AssetLoadEvent event = new AssetLoadEvent();
+            event.begin();
+            BufferedImage decoded = toCompatibleImage(decodeImage(path));
+            commitLoad(event, AssetLoadEvent.IMAGE, path, (long) decoded.getWidth() * decoded.getHeight() * 4, true);
+            img = imageCache.putIfAbsent(path, decoded);
+            if (img == null) img = decoded;
+        }
+        return img;
+    }
+    
+    /**
+     * Creates an image in the screen's native layout so Java2D can keep it
+     * as an accelerated managed image. Translucent images are premultiplied,
+     * which is what the blending loops work in; headless runs get the same
+     * layout without a screen.
+     */
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        width = Math.max(1, width);
+        height = Math.max(1, height);
+        GraphicsConfiguration gc = screenConfiguration();
+        if (gc != null) {
+            BufferedImage img = gc.createCompatibleImage(width, height, transparency);
+            if (transparency == Transparency.OPAQUE || img.isAlphaPremultiplied()) {
+                return img;
+            }
+        }
+        return new BufferedImage(width, height, transparency == Transparency.OPAQUE
+                ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+    
+    /** Copies a decoded image into a {@link #createCompatibleImage compatible} one. */
+    public static BufferedImage toCompatibleImage(Image src) {
+        int transparency = src instanceof Transparency t ? t.getTransparency() : Transparency.TRANSLUCENT;
+        BufferedImage img = createCompatibleImage(src.getWidth(null), src.getHeight(null), transparency);
+        Graphics2D g = img.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(src, 0, 0, null);
+        g.dispose();
+        return img;
+    }
+    
+    private static GraphicsConfiguration screenConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) return null;
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+    }
+    
+    // ImageIO rather than ImageIcon: ImageIcon serializes every load on one
+    // MediaTracker, which defeats loading on several threads
+    private static Image decodeImage(String path) {
         URL url = ResourceLoader.class.getResource(path);
         if (url == null) {
             System.err.println("ไม่พบไฟล์รูป: " + path);
             return createFallbackImage(64, 64, Color.MAGENTA);
         }
-        return new ImageIcon(url).getImage();
+        try {
+            Image img = ImageIO.read(url);
+            if (img != null) return img;
+        } catch (IOException e) {
+            System.err.println("โหลดรูปไม่สำเร็จ: " + path + " → " + e.getMessage());
+        }
+        return createFallbackImage(64, 64, Color.MAGENTA);
     }
     
+    /**
+     * Scales once at load time instead of handing out a lazily scaled image.
+     * Cached like {@link #loadImage(String)}, keyed by path and size.
+     */
     public static Image loadImage(String path, int width, int height) {
-        Image img = loadImage(path);
-        if (img == null) return createFallbackImage(width, height, Color.MAGENTA);
-        return img.getScaledInstance(width, height, Image.SCALE_SMOOTH);
+        String key = path + "@" + width + "x" + height;
+        Image img = imageCache.get(key);
+        if (img == null) {
+            BufferedImage scaled = scaleImage(loadImage(path), width, height);
+            img = imageCache.putIfAbsent(key, scaled);
+            if (img == null) img = scaled;
+        }
+        return img;
+    }
+
+    private static BufferedImage scaleImage(Image src, int width, int height) {
+        int transparency = src instanceof Transparency t ? t.getTransparency() : Transparency.TRANSLUCENT;
+        BufferedImage img = createCompatibleImage(width, height, transparency);
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(src, 0, 0, width, height, null);
+        g.dispose();
+        return img;
+    }
+    
+    public static SpriteSheet loadAnimationSheet(String folder, String prefix, int count, int width, int height) {
+        return loadAnimationSheet(new SheetSpec(folder, prefix, count, width, height));
+    }
+    
+    public static SpriteSheet loadAnimationSheet(SheetSpec spec) {
+        SpriteSheet sheet = sheetCache.get(spec);
+        if (sheet == null) {
+            // Built outside the map so slow decodes never block other keys;
+            // if two threads race, the first one stored wins
+            AssetLoadEvent event = new AssetLoadEvent();
+            event.begin();
+            SpriteSheet loaded = packAnimationSheet(spec.folder(), spec.prefix(), spec.count(), spec.width(), spec.height());
+            BufferedImage atlas = loaded.getAtlas();
+            commitLoad(event, AssetLoadEvent.SHEET, spec.folder() + "/" + spec.prefix(),
+                    (long) atlas.getWidth() * atlas.getHeight() * 4, true);
+            sheet = sheetCache.putIfAbsent(spec, loaded);
+            if (sheet == null) {
+                loaded.markCached();   // a sheet that lost the race is garbage, not sprite memory
+                sheet = loaded;
+            }
+        }
+        return sheet;
+    }
+    
+    public static int getCachedImageCount() {
+        return imageCache.size();
+    }
+    
+    public static int getCachedSheetCount() {
+        return sheetCache.size();
     }
     
-    public static Image[] loadAnimationFrames(String folder, String prefix, int count, int width, int height) {
+    /** Switches pre-mirrored sprite frames on or off; off also frees the mirrored atlases. */
+    public static void setMirrorCacheEnabled(boolean enabled) {
+        SpriteSheet.setMirrorCacheEnabled(enabled);
+        if (!enabled) {
+            for (SpriteSheet sheet : sheetCache.values()) {
+                sheet.releaseMirrored();
+            }
+        }
+    }
+    
+    private static SpriteSheet packAnimationSheet(String folder, String prefix, int count, int width, int height) {
         Image[] frames = new Image[count];
         for (int i = 0; i < count; i++) {
             String path = String.format("%s/%s%d.png", folder, prefix, i + 1);
-            frames[i] = loadImage(path, width, height);
+            frames[i] = decodeImage(path);   // raw frames are dropped once packed
+        }
+        return SpriteSheet.pack(frames, width, height);
+    }
+    
+    /** Decodes a WAV once into the mixer format; later calls share the same buffer. */
+    public static SoundBuffer loadSound(String path) {
+        SoundBuffer sound = soundCache.get(path);
+        if (sound == null) {
+            AssetLoadEvent event = new AssetLoadEvent();
+            event.begin();
+            SoundBuffer decoded = decodeSound(path);
+            commitLoad(event, AssetLoadEvent.SOUND, path, decoded == null ? 0 : decoded.getByteSize(), decoded != null);
+            if (decoded == null) return null;
+            sound = soundCache.putIfAbsent(path, decoded);
+            if (sound == null) sound = decoded;
         }
-        return frames;
+        return sound;
     }
     
-    public static Clip loadClip(String path) {
+    private static void commitLoad(AssetLoadEvent event, String kind, String path, long bytes, boolean ok) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.kind = kind;
+            event.path = path;
+            event.bytes = bytes;
+            event.ok = ok;
+            event.commit();
+        }
+    }
+
+    public static int getCachedSoundCount() {
+        return soundCache.size();
+    }
+    
+    private static SoundBuffer decodeSound(String path) {
         try (InputStream audioSrc = ResourceLoader.class.getResourceAsStream(path)) {
             if (audioSrc == null) {
                 System.err.println("ไม่พบไฟล์เสียง: " + path);
                 return null;
             }
-            InputStream bufferedIn = new BufferedInputStream(audioSrc);
-            AudioInputStream ais = AudioSystem.getAudioInputStream(bufferedIn);
-            Clip clip = AudioSystem.getClip();
-            clip.open(ais);
-            return clip;
+            return SoundBuffer.decode(path, audioSrc);
+        } catch (Exception e) {
+            System.err.println("โหลดเสียงไม่สำเร็จ: " + path + " → " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Opens a WAV for streaming, converted to 16-bit PCM on the fly.
+     * The caller closes it; returns null when the file is missing or unreadable.
+     */
+    public static AudioInputStream openAudioStream(String path) {
+        InputStream audioSrc = ResourceLoader.class.getResourceAsStream(path);
+        if (audioSrc == null) {
+            System.err.println("ไม่พบไฟล์เสียง: " + path);
+            return null;
+        }
+        try {
+            AudioInputStream ais = AudioSystem.getAudioInputStream(new BufferedInputStream(audioSrc));
+            return AudioSystem.getAudioInputStream(AudioMixer.pcm16(ais.getFormat()), ais);
         } catch (Exception e) {
             System.err.println("โหลดเสียงไม่สำเร็จ: " + path + " → " + e.getMessage());
+            try {
+                audioSrc.close();
+            } catch (IOException ignore) {
+            }
             return null;
         }
     }
     
     private static Image createFallbackImage(int width, int height, Color color) {
-        java.awt.image.BufferedImage img = new java.awt.image.BufferedImage(
-            width, height, java.awt.image.BufferedImage.TYPE_INT_ARGB);
+        BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
         Graphics2D g = img.createGraphics();
         g.setColor(color);
         g.fillRect(0, 0, width, height);
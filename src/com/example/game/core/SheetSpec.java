@@ -0,0 +1,12 @@
+package com.example.game.core;
+
+/**
+ * Identifies one animation sheet on disk: frames {@code <folder>/<prefix>1.png}
+ * to {@code <prefix><count>.png}, scaled to width x height. Also the cache key.
+ */
+public record SheetSpec(String folder, String prefix, int count, int width, int height) {
+
+    public SpriteSheet load() {
+        return ResourceLoader.loadAnimationSheet(this);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.game.core;
+
+import com.example.game.sim.Cue;
+import com.example.game.sim.CueListener;
+
+/**
+ * Turns simulation {@link Cue}s into sound effects. Each cue is bound once
+ * to a clip, volume and priority; playing one is an array read.
+ */
+public class SoundBoard implements CueListener {
+    private final SoundEffect[] effects = new SoundEffect[Cue.values().length];
+
+    /** Binds {@code cue} to a sound; a clip that fails to load leaves the cue silent. */
+    public SoundBoard bind(Cue cue, String path, float volume, int priority) {
+        SoundBuffer buffer = ResourceLoader.loadSound(path);
+        effects[cue.ordinal()] = buffer != null ? new SoundEffect(buffer, volume, priority) : null;
+        return this;
+    }
+
+    @Override
+    public void onCue(Cue cue) {
+        SoundEffect effect = effects[cue.ordinal()];
+        if (effect != null) {
+            effect.play();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.game.core;
+
+import javax.sound.sampled.*;
+import java.io.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A sound decoded once into the mixer's format (16-bit stereo at
+ * {@link AudioMixer#SAMPLE_RATE}). Immutable, so it is shared by every
+ * entity that plays it.
+ */
+public class SoundBuffer {
+    private final short[] samples;   // interleaved L/R
+    private final String name;
+    private final AtomicLong lastTriggerTick = new AtomicLong(-1);
+
+    SoundBuffer(String name, short[] samples) {
+        this.name = name;
+        this.samples = samples;
+    }
+
+    public static SoundBuffer decode(String name, InputStream in) throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream src = AudioSystem.getAudioInputStream(new BufferedInputStream(in));
+             AudioInputStream pcm = AudioSystem.getAudioInputStream(AudioMixer.pcm16(src.getFormat()), src)) {
+            AudioFormat fmt = pcm.getFormat();
+            byte[] bytes = pcm.readAllBytes();
+            return new SoundBuffer(name, AudioMixer.toMixFormat(bytes, bytes.length, fmt));
+        }
+    }
+
+    public String getName() { return name; }
+    public int getFrameCount() { return samples.length / AudioMixer.CHANNELS; }
+    public int getByteSize() { return samples.length * 2; }
+
+    short[] samples() { return samples; }
+
+    /** Records a trigger in {@code tick}; returns the tick of the previous trigger. */
+    long markTriggered(long tick) {
+        return lastTriggerTick.getAndSet(tick);
+    }
+}
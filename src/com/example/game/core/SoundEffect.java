@@ -0,0 +1,24 @@
+package com.example.game.core;
+
+/**
+ * A shared {@link SoundBuffer} with the volume and priority an entity plays it at.
+ */
+public class SoundEffect {
+    private final SoundBuffer buffer;
+    private final float gain;
+    private final int priority;
+
+    public SoundEffect(SoundBuffer buffer, float volume, int priority) {
+        this.buffer = buffer;
+        this.gain = SoundManager.toLinearGain(volume);
+        this.priority = priority;
+    }
+
+    public void play() {
+        SoundManager.play(buffer, gain, priority);
+    }
+
+    public SoundBuffer getBuffer() { return buffer; }
+    public float getGain() { return gain; }
+    public int getPriority() { return priority; }
+}
@@ -1,39 +1,102 @@
 // ==================== SoundManager.java ====================
 package com.example.game.core;
 
-import javax.sound.sampled.*;
+import com.example.game.telemetry.SoundTriggerEvent;
 
 public class SoundManager {
-    
-    public static void play(Clip clip) {
-        if (clip == null) return;
-        if (clip.isRunning()) clip.stop();
-        clip.setFramePosition(0);
-        clip.start();
-    }
-
-    public static void setVolume(Clip clip, float scale) {
-        if (clip == null) return;
-        try {
-            FloatControl gain = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-            float range = gain.getMaximum() - gain.getMinimum();
-            float gainValue = (range * scale) + gain.getMinimum();
-            gain.setValue(Math.min(gainValue, gain.getMaximum()));
-        } catch (Exception e) {
-            System.err.println("⚠️ ปรับเสียงไม่ได้: " + e.getMessage());
+    public static final int PRIORITY_LOW = 0;
+    public static final int PRIORITY_NORMAL = 1;
+    public static final int PRIORITY_HIGH = 2;
+    public static final int MAX_VOICES = 12;
+
+    // Same range a Clip's MASTER_GAIN control exposes, so volumes sound as before
+    private static final float MIN_GAIN_DB = -80f;
+    private static final float MAX_GAIN_DB = 6.0206f;
+
+    private static final MusicPlayer music = new MusicPlayer();
+    private static volatile AudioMixer mixer;
+    private static boolean lineUnavailable = false;
+
+    /** The mixer if one is running; unlike {@link #getMixer()} never opens a line. */
+    public static AudioMixer getOpenMixer() {
+        return mixer;
+    }
+
+    public static AudioMixer getMixer() {
+        AudioMixer m = mixer;
+        return m != null ? m : openMixer();
+    }
+
+    private static synchronized AudioMixer openMixer() {
+        if (mixer == null && !lineUnavailable) {
+            try {
+                mixer = new AudioMixer(AudioOutput.openLine(), MAX_VOICES);
+                mixer.setMusic(music);
+                mixer.start();
+            } catch (Exception e) {
+                lineUnavailable = true;
+                System.err.println("⚠️ เปิด audio line ไม่ได้: " + e.getMessage());
+            }
+        }
+        return mixer;
+    }
+
+    /**
+     * Replaces the mixer with one writing to {@code output}. No thread is
+     * started; the caller drives it with {@link AudioMixer#mixBlock()}.
+     */
+    public static synchronized AudioMixer useOutput(AudioOutput output) {
+        if (mixer != null) mixer.stop();
+        mixer = new AudioMixer(output, MAX_VOICES);
+        mixer.setMusic(music);
+        return mixer;
+    }
+
+    /** Queues the sound for the mixer thread; never blocks the caller. */
+    public static void play(SoundBuffer sound, float gain, int priority) {
+        SoundTriggerEvent.emit(sound.getName(), gain, priority);
+        AudioMixer m = getMixer();
+        if (m != null) {
+            m.getCommands().postPlay(sound, gain, priority);
         }
     }
-    
-    public static void stop(Clip clip) {
-        if (clip != null && clip.isRunning()) {
-            clip.stop();
+
+    public static void stop(SoundBuffer sound) {
+        AudioMixer m = getMixer();
+        if (m != null) {
+            m.getCommands().postStop(sound);
+        }
+    }
+
+    public static void setVolume(SoundBuffer sound, float gain) {
+        AudioMixer m = getMixer();
+        if (m != null) {
+            m.getCommands().postVolume(sound, gain);
+        }
+    }
+
+    /** Marks a game-tick boundary so repeated triggers within one tick are merged. */
+    public static void beginTick() {
+        AudioMixer m = getMixer();
+        if (m != null) {
+            m.getCommands().nextTick();
         }
     }
-    
-    public static void close(Clip clip) {
-        if (clip != null) {
-            stop(clip);
-            clip.close();
+
+    /** Streams a looping track, cross-fading from whatever is playing. */
+    public static void playMusic(String path, int fadeMs) {
+        if (getMixer() != null) {
+            music.play(path, fadeMs);
         }
     }
+
+    public static void stopMusic(int fadeMs) {
+        music.stop(fadeMs);
+    }
+
+    /** Maps a 0..1 volume scale to a linear amplitude factor. */
+    public static float toLinearGain(float scale) {
+        float db = Math.min(MAX_GAIN_DB, (MAX_GAIN_DB - MIN_GAIN_DB) * scale + MIN_GAIN_DB);
+        return (float) Math.pow(10.0, db / 20.0);
+    }
 }
@@ -0,0 +1,147 @@
+package com.example.game.core;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * All frames of one animation packed into a single atlas image.
+ * Frames share the same size; the region table holds the top-left
+ * corner of every frame inside the atlas.
+ * Left-facing draws use a second atlas with every cell pre-mirrored, so
+ * they are plain blits too; turn it off with -Dgame.mirrorCache=false.
+ */
+public class SpriteSheet {
+    static final int MAX_ATLAS_WIDTH = 4096;
+
+    private static volatile boolean mirrorCacheEnabled =
+            Boolean.parseBoolean(System.getProperty("game.mirrorCache", "true"));
+    private static final AtomicLong atlasBytes = new AtomicLong();
+    private static final AtomicLong mirroredBytes = new AtomicLong();
+
+    private final BufferedImage atlas;
+    private final int frameW, frameH;
+    private final int[] regionX;
+    private final int[] regionY;
+    private volatile BufferedImage mirrored;
+    private boolean cached;   // counted in the byte totals; only sheets ResourceLoader keeps are
+
+    SpriteSheet(BufferedImage atlas, int frameW, int frameH, int[] regionX, int[] regionY) {
+        this.atlas = atlas;
+        this.frameW = frameW;
+        this.frameH = frameH;
+        this.regionX = regionX;
+        this.regionY = regionY;
+    }
+
+    /**
+     * Packs the frames row by row into one atlas, scaling each of them to
+     * frameW x frameH while drawing it into its cell.
+     */
+    public static SpriteSheet pack(Image[] frames, int frameW, int frameH) {
+        int count = frames.length;
+        int cols = Math.max(1, Math.min(count, MAX_ATLAS_WIDTH / frameW));
+        int rows = (count + cols - 1) / cols;
+
+        BufferedImage atlas = ResourceLoader.createCompatibleImage(cols * frameW, Math.max(1, rows) * frameH,
+                Transparency.TRANSLUCENT);
+        int[] regionX = new int[count];
+        int[] regionY = new int[count];
+
+        Graphics2D g = atlas.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        for (int i = 0; i < count; i++) {
+            regionX[i] = (i % cols) * frameW;
+            regionY[i] = (i / cols) * frameH;
+            if (frames[i] != null) {
+                g.drawImage(frames[i], regionX[i], regionY[i], frameW, frameH, null);
+            }
+        }
+        g.dispose();
+
+        SpriteSheet sheet = new SpriteSheet(atlas, frameW, frameH, regionX, regionY);
+        if (mirrorCacheEnabled) {
+            sheet.mirrored();   // build it now, on the loading thread, not on first draw
+        }
+        return sheet;
+    }
+
+    // Same layout as the atlas, each cell flipped in place
+    private BufferedImage mirrored() {
+        BufferedImage m = mirrored;
+        if (m == null) {
+            synchronized (this) {
+                m = mirrored;
+                if (m == null) {
+                    m = ResourceLoader.createCompatibleImage(atlas.getWidth(), atlas.getHeight(), atlas.getTransparency());
+                    Graphics2D g = m.createGraphics();
+                    g.setComposite(AlphaComposite.Src);
+                    for (int i = 0; i < regionX.length; i++) {
+                        int sx = regionX[i], sy = regionY[i];
+                        g.drawImage(atlas, sx + frameW, sy, sx, sy + frameH, sx, sy, sx + frameW, sy + frameH, null);
+                    }
+                    g.dispose();
+                    mirrored = m;
+                    if (cached) mirroredBytes.addAndGet(byteSize(m));
+                }
+            }
+        }
+        return m;
+    }
+
+    /** Drops the mirrored atlas; flipped frames are drawn with a mirroring blit until it is rebuilt. */
+    synchronized void releaseMirrored() {
+        if (mirrored != null) {
+            if (cached) mirroredBytes.addAndGet(-byteSize(mirrored));
+            mirrored = null;
+        }
+    }
+
+    /** Called once the sheet is stored in the cache; from then on its atlases count towards the totals. */
+    synchronized void markCached() {
+        if (cached) return;
+        cached = true;
+        atlasBytes.addAndGet(byteSize(atlas));
+        if (mirrored != null) mirroredBytes.addAndGet(byteSize(mirrored));
+    }
+
+    /** Turning the cache off frees nothing by itself; see {@link ResourceLoader#setMirrorCacheEnabled}. */
+    static void setMirrorCacheEnabled(boolean enabled) {
+        mirrorCacheEnabled = enabled;
+    }
+
+    public static boolean isMirrorCacheEnabled() {
+        return mirrorCacheEnabled;
+    }
+
+    /** Bytes held by the atlases of cached sheets; a sheet packed but never cached is not counted. */
+    public static long getAtlasBytes() {
+        return atlasBytes.get();
+    }
+
+    /** Bytes held by pre-mirrored atlases, on top of {@link #getAtlasBytes()}. */
+    public static long getMirroredBytes() {
+        return mirroredBytes.get();
+    }
+
+    private static long byteSize(BufferedImage img) {
+        return (long) img.getWidth() * img.getHeight() * img.getColorModel().getPixelSize() / 8;
+    }
+
+    public int getFrameCount() { return regionX.length; }
+    public int getFrameWidth() { return frameW; }
+    public int getFrameHeight() { return frameH; }
+    public BufferedImage getAtlas() { return atlas; }
+
+    public void drawFrame(Graphics g, int index, int x, int y, boolean flipH) {
+        int sx = regionX[index], sy = regionY[index];
+        if (flipH && mirrorCacheEnabled) {
+            g.drawImage(mirrored(), x, y, x + frameW, y + frameH, sx, sy, sx + frameW, sy + frameH, null);
+        } else if (flipH) {
+            g.drawImage(atlas, x + frameW, y, x, y + frameH, sx, sy, sx + frameW, sy + frameH, null);
+        } else {
+            g.drawImage(atlas, x, y, x + frameW, y + frameH, sx, sy, sx + frameW, sy + frameH, null);
+        }
+    }
+}
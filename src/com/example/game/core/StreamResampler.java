@@ -0,0 +1,95 @@
+package com.example.game.core;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * {@link AudioMixer#toMixFormat} for a stream decoded in chunks. The
+ * interpolation phase and the last source frame carry over from one chunk
+ * to the next, so the first output frames of a chunk blend with the end
+ * of the previous one and no fractional frame is dropped at the seam.
+ * Chunk after chunk it gives what resampling the whole file at once would.
+ */
+class StreamResampler {
+    private final int channels;
+    private final double step;          // source frames per mixer frame
+    private final long rate;
+    private final int[] prev;           // last source frame of the previous chunk
+    private long produced = 0;          // mixer frames written so far
+    private long consumed = 0;          // source frames in earlier chunks
+    private short[] out = new short[0];
+
+    /** {@code fmt} is the {@link AudioMixer#pcm16} format the chunks arrive in. */
+    StreamResampler(AudioFormat fmt) {
+        this.channels = fmt.getChannels();
+        this.step = fmt.getSampleRate() / AudioMixer.SAMPLE_RATE;
+        this.rate = (long) fmt.getSampleRate();
+        this.prev = new int[channels];
+    }
+
+    /**
+     * Resamples {@code len} bytes of whole frames into {@link #output()}.
+     * @return the mixer frames written; the buffer is reused by the next call
+     */
+    int process(byte[] bytes, int len) {
+        int inFrames = len / (channels * 2);
+        if (inFrames == 0) return 0;
+        // Where the next output frame falls, in source frames from this chunk's start; -1 is prev.
+        // Derived from the totals each time so rounding never accumulates over a long track.
+        double pos = produced * step - consumed;
+        int most = (int) Math.ceil((inFrames - pos) / step) + 1;
+        if (out.length < most * AudioMixer.CHANNELS) {
+            out = new short[most * AudioMixer.CHANNELS];
+        }
+
+        int frames = 0;
+        while (pos < inFrames - 1) {
+            int i0 = (int) Math.floor(pos);
+            double t = pos - i0;
+            for (int c = 0; c < AudioMixer.CHANNELS; c++) {
+                int srcCh = Math.min(c, channels - 1);
+                int a = i0 < 0 ? prev[srcCh] : sample(bytes, i0, srcCh);
+                int b = sample(bytes, i0 + 1, srcCh);
+                out[frames * AudioMixer.CHANNELS + c] = (short) Math.round(a + (b - a) * t);
+            }
+            frames++;
+            pos = (produced + frames) * step - consumed;
+        }
+
+        for (int c = 0; c < channels; c++) {
+            prev[c] = sample(bytes, inFrames - 1, c);
+        }
+        produced += frames;
+        consumed += inFrames;   // this chunk's last frame becomes frame -1 of the next
+        return frames;
+    }
+
+    /**
+     * At end of stream: writes the frames past the last source frame that
+     * resampling the whole file would still make, holding that frame.
+     * @return the mixer frames written into {@link #output()}
+     */
+    int finish() {
+        long total = consumed * AudioMixer.SAMPLE_RATE / rate;   // as AudioMixer.toMixFormat counts them
+        int frames = (int) Math.max(0, total - produced);
+        if (out.length < frames * AudioMixer.CHANNELS) {
+            out = new short[frames * AudioMixer.CHANNELS];
+        }
+        for (int f = 0; f < frames; f++) {
+            for (int c = 0; c < AudioMixer.CHANNELS; c++) {
+                out[f * AudioMixer.CHANNELS + c] = (short) prev[Math.min(c, channels - 1)];
+            }
+        }
+        produced += frames;
+        return frames;
+    }
+
+    /** Interleaved stereo written by the last {@link #process} or {@link #finish} call. */
+    short[] output() {
+        return out;
+    }
+
+    private int sample(byte[] bytes, int frame, int channel) {
+        int i = (frame * channels + channel) * 2;
+        return (short) ((bytes[i] & 0xFF) | (bytes[i + 1] << 8));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.game.core;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * A line of text rendered once into an image. Drawing it is a plain blit,
+ * so a HUD that never changes its text does not switch fonts or lay out
+ * glyphs every frame (switching fonts on a Graphics allocates).
+ */
+public class TextSprite {
+    // Same defaults a fresh Graphics uses: no text antialiasing, integer metrics
+    private static final FontRenderContext FRC = new FontRenderContext(null, false, false);
+    private static final int PAD = 2;   // room for glyphs that overhang their advance
+
+    private final String text;
+    private final BufferedImage image;
+    private final int ascent;
+
+    public TextSprite(String text, Font font, Color color) {
+        this.text = text;
+        Rectangle2D bounds = font.getStringBounds(text, FRC);
+        LineMetrics lm = font.getLineMetrics(text, FRC);
+        this.ascent = (int) Math.ceil(lm.getAscent());
+        int w = (int) Math.ceil(bounds.getWidth()) + PAD * 2;
+        int h = ascent + (int) Math.ceil(lm.getDescent());
+
+        image = ResourceLoader.createCompatibleImage(w, h, Transparency.TRANSLUCENT);
+        Graphics2D g = image.createGraphics();
+        g.setFont(font);
+        g.setColor(color);
+        g.drawString(text, PAD, ascent);
+        g.dispose();
+    }
+
+    /** Draws with the same baseline {@code drawString(text, x, baselineY)} would use. */
+    public void draw(Graphics g, int x, int baselineY) {
+        g.drawImage(image, x - PAD, baselineY - ascent, null);
+    }
+
+    /** The area {@link #draw} covers at that position, written into {@code out}. */
+    public Rectangle getBounds(int x, int baselineY, Rectangle out) {
+        out.setBounds(x - PAD, baselineY - ascent, image.getWidth(), image.getHeight());
+        return out;
+    }
+
+    public String getText() { return text; }
+    public int getWidth() { return image.getWidth() - PAD * 2; }
+}
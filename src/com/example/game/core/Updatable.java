@@ -0,0 +1,5 @@
+package com.example.game.core;
+
+public interface Updatable {
+    void update(int dt);
+}
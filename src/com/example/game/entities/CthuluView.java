@@ -0,0 +1,38 @@
+package com.example.game.entities;
+
+import com.example.game.core.*;
+import com.example.game.sim.Cthulu;
+import com.example.game.sim.Cue;
+
+/** Sprites and sounds for the simulated boss. */
+public class CthuluView extends EntityView<Cthulu> {
+    public static final int Z_ORDER = 10;
+
+    private static final SheetSpec[] SHEETS = EntityView.sheets(Cthulu.DEFINITION, "/assets/Cthulhu",
+            Cthulu.FRAME_W, Cthulu.FRAME_H,
+            "idle_", "walk_", "1atk_", "2atk_", "death_");
+
+    private static final String ROAR_SFX = "/assets/sound/awake-the-beast-106445.wav";
+    private static final String DEATH_SFX = "/assets/sound/monster-growl-6311.wav";
+    private static final String ATTACK_SFX = "/assets/sound/mixkit-fast-blow-2144.wav";
+
+    public CthuluView(Cthulu boss) {
+        super(boss, SHEETS, Z_ORDER);
+    }
+
+    /** Registers everything the view and its sounds load, so it can be decoded ahead of time. */
+    public static void preload(AssetPreloader loader) {
+        for (SheetSpec sheet : SHEETS) {
+            loader.sheet(sheet);
+        }
+        loader.sound(ROAR_SFX);
+        loader.sound(DEATH_SFX);
+        loader.sound(ATTACK_SFX);
+    }
+
+    public static void bindSounds(SoundBoard board) {
+        board.bind(Cue.BOSS_ROAR, ROAR_SFX, 0.8f, SoundManager.PRIORITY_HIGH);
+        board.bind(Cue.BOSS_DEATH, DEATH_SFX, 0.8f, SoundManager.PRIORITY_HIGH);
+        board.bind(Cue.BOSS_ATTACK, ATTACK_SFX, 0.9f, SoundManager.PRIORITY_HIGH);
+    }
+}
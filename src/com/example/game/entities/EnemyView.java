@@ -0,0 +1,38 @@
+package com.example.game.entities;
+
+import com.example.game.core.*;
+import com.example.game.sim.Cue;
+import com.example.game.sim.Enemy;
+
+/** Sprites and sounds for a simulated minion. */
+public class EnemyView extends EntityView<Enemy> {
+    public static final int Z_ORDER = 20;
+
+    private static final SheetSpec[] SHEETS = EntityView.sheets(Enemy.DEFINITION, "/assets/Enemy",
+            Enemy.FRAME_W, Enemy.FRAME_H,
+            "_run_minion_c", "_hit_minion_c", "_die_minion_c");
+
+    private static final String GROWL_SFX = "/assets/sound/small-monster-attack-195712.wav";
+    private static final String DEATH_SFX = "/assets/sound/goblin-scream-87564.wav";
+    private static final String ATTACK_SFX = "/assets/sound/mixkit-weak-fast-blow-2145.wav";
+
+    public EnemyView(Enemy enemy) {
+        super(enemy, SHEETS, Z_ORDER);
+    }
+
+    /** Registers everything the view and its sounds load, so it can be decoded ahead of time. */
+    public static void preload(AssetPreloader loader) {
+        for (SheetSpec sheet : SHEETS) {
+            loader.sheet(sheet);
+        }
+        loader.sound(GROWL_SFX);
+        loader.sound(DEATH_SFX);
+        loader.sound(ATTACK_SFX);
+    }
+
+    public static void bindSounds(SoundBoard board) {
+        board.bind(Cue.MINION_GROWL, GROWL_SFX, 0.7f, SoundManager.PRIORITY_LOW);
+        board.bind(Cue.MINION_DEATH, DEATH_SFX, 0.9f, SoundManager.PRIORITY_NORMAL);
+        board.bind(Cue.MINION_ATTACK, ATTACK_SFX, 0.7f, SoundManager.PRIORITY_NORMAL);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.game.entities;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import com.example.game.core.*;
+import com.example.game.sim.Cue;
+import com.example.game.sim.Gem;
+
+/** Frames and pickup sound for the simulated {@link Gem}. */
+public class GemView implements Renderable {
+    public static final int Z_ORDER = 0;
+    private static final String FRAME_PATH = "/assets/gem%d.png";
+    private static final String PICK_SFX = "/assets/sound/3-down-fast-3-106140.wav";
+
+    private final Gem gem;
+    private Image[] frames;
+    private int frameCount = 0;
+    private int w = Gem.SIZE, h = Gem.SIZE;
+
+    public GemView(Gem gem) {
+        this.gem = gem;
+
+        loadFrames();
+
+        // Calculate size from first valid frame
+        for (int i = 0; i < frameCount; i++) {
+            Image f = frames[i];
+            if (f != null) {
+                w = Math.max(1, f.getWidth(null));
+                h = Math.max(1, f.getHeight(null));
+                break;
+            }
+        }
+    }
+
+    /** Registers everything the view and its sound load, so it can be decoded ahead of time. */
+    public static void preload(AssetPreloader loader) {
+        for (int i = 1; i <= Gem.FRAME_COUNT; i++) {
+            loader.image(String.format(FRAME_PATH, i));
+        }
+        loader.sound(PICK_SFX);
+    }
+
+    public static void bindSounds(SoundBoard board) {
+        board.bind(Cue.GEM_PICK, PICK_SFX, 0.9f, SoundManager.PRIORITY_HIGH);
+    }
+
+    private void loadFrames() {
+        // Try to load gem animation frames
+        frames = new Image[Gem.FRAME_COUNT];
+        frameCount = 0;
+
+        // Try pattern: gem1.png, gem2.png, ...
+        for (int i = 1; i <= Gem.FRAME_COUNT; i++) {
+            String path = String.format(FRAME_PATH, i);
+            Image img = ResourceLoader.loadImage(path);
+            if (img != null && img.getWidth(null) > 0) {
+                frames[i - 1] = img;
+                frameCount++;
+            } else {
+                break;
+            }
+        }
+
+        // Fallback if no frames loaded
+        if (frameCount == 0) {
+            for (int i = 0; i < Gem.FRAME_COUNT; i++) {
+                BufferedImage bi = ResourceLoader.createCompatibleImage(32, 32, Transparency.TRANSLUCENT);
+                Graphics2D g2 = bi.createGraphics();
+                g2.setColor(new Color(70, 255, 170));
+                g2.fillOval(0, 0, 32, 32);
+                g2.dispose();
+                frames[i] = bi;
+            }
+            frameCount = Gem.FRAME_COUNT;
+            System.err.println("[Gem] WARNING: cannot find sprite files, using fallback circle.");
+        }
+    }
+
+    @Override
+    public int getZOrder() {
+        return Z_ORDER;
+    }
+
+    @Override
+    public boolean getDrawBounds(Rectangle out) {
+        if (gem.isGone() || frameCount == 0) return false;
+        out.setBounds(gem.getXPos(), gem.getYPos() - Gem.BOB_AMP, w, h + Gem.BOB_AMP * 2);
+        return true;
+    }
+
+    @Override
+    public void render(Graphics2D g) {
+        if (gem.isGone() || frameCount == 0) return;
+        Image frame = frames[gem.getFrameIndex() % frameCount];
+        if (frame == null) return;
+        g.drawImage(frame, gem.getXPos(), gem.getYPos() + gem.getBobOffset(), null);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.game.entities;
+
+import com.example.game.core.*;
+import com.example.game.sim.Cue;
+import com.example.game.sim.Player;
+
+/** Sprites and sounds for the simulated {@link Player}. */
+public class PlayerView extends EntityView<Player> {
+    public static final int Z_ORDER = 30;
+
+    private static final SheetSpec[] SHEETS = EntityView.sheets(Player.DEFINITION, "/assets/Player",
+            Player.FRAME_W, Player.FRAME_H,
+            "_Idle_r1_c", "_Run_r1_c", "_Attack_r1_c", "_Attack2_r1_c", "_Death_r1_c");
+
+    private static final String SWORD_SFX = "/assets/sound/sword-sound-2-36274.wav";
+    private static final String DEATH_SFX = "/assets/sound/death-sound-1-165630.wav";
+
+    public PlayerView(Player player) {
+        super(player, SHEETS, Z_ORDER);
+    }
+
+    /** Registers everything the view and its sounds load, so it can be decoded ahead of time. */
+    public static void preload(AssetPreloader loader) {
+        for (SheetSpec sheet : SHEETS) {
+            loader.sheet(sheet);
+        }
+        loader.sound(SWORD_SFX);
+        loader.sound(DEATH_SFX);
+    }
+
+    public static void bindSounds(SoundBoard board) {
+        board.bind(Cue.PLAYER_SWORD, SWORD_SFX, 0.8f, SoundManager.PRIORITY_HIGH);
+        board.bind(Cue.PLAYER_DEATH, DEATH_SFX, 0.9f, SoundManager.PRIORITY_HIGH);
+    }
+
+    // Blinks while invincible after a hit
+    @Override
+    protected boolean isVisible() {
+        int blink = entity.getInvincibleElapsed();
+        return super.isVisible() && (blink < 0 || (blink / 100) % 2 != 0);
+    }
+}
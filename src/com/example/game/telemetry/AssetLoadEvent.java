@@ -0,0 +1,27 @@
+package com.example.game.telemetry;
+
+import jdk.jfr.*;
+
+/** An image, sprite sheet or sound decoded from disk (cache misses only). */
+@Name("com.example.game.AssetLoad")
+@Label("Asset Load")
+@Category({"Game", "Assets"})
+@StackTrace(false)
+public class AssetLoadEvent extends Event {
+    public static final String IMAGE = "image", SHEET = "sheet", SOUND = "sound";
+
+    @Label("Kind")
+    public String kind;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Decoded Size") @DataAmount
+    public long bytes;
+
+    @Label("Succeeded")
+    public boolean ok;
+
+    public AssetLoadEvent() {
+    }
+}
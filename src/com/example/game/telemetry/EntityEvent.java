@@ -0,0 +1,66 @@
+package com.example.game.telemetry;
+
+import com.example.game.sim.Entity;
+import com.example.game.sim.EntityListener;
+import jdk.jfr.*;
+
+/** An entity moved through its lifecycle in the simulation: spawn, death, gone or dispose. */
+@Name("com.example.game.Entity")
+@Label("Entity Lifecycle")
+@Category({"Game", "Entities"})
+@StackTrace(false)
+public class EntityEvent extends Event {
+    static final EventType TYPE = EventType.getEventType(EntityEvent.class);
+
+    /** Forwards simulation lifecycle callbacks to JFR. */
+    public static final EntityListener LISTENER = new EntityListener() {
+        @Override
+        public void onSpawn(Entity e) {
+            emit("spawn", e);
+        }
+
+        @Override
+        public void onDeath(Entity e) {
+            emit("death", e);
+        }
+
+        @Override
+        public void onGone(Entity e) {
+            emit("gone", e);
+        }
+
+        @Override
+        public void onDispose(Entity e) {
+            emit("dispose", e);
+        }
+    };
+
+    @Label("Change")
+    public String change;
+
+    @Label("Type")
+    public String type;
+
+    @Label("Id")
+    public int id;
+
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    public EntityEvent() {
+    }
+
+    private static void emit(String change, Entity e) {
+        if (!TYPE.isEnabled()) return;
+        EntityEvent event = new EntityEvent();
+        event.change = change;
+        event.type = e.getClass().getSimpleName();
+        event.id = e.getId();
+        event.x = e.getXPos();
+        event.y = e.getYPos();
+        event.commit();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.game.telemetry;
+
+import com.example.game.core.*;
+import com.example.game.sim.PhaseProfiler;
+import com.example.game.sim.Simulation;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * The {@link GameStatsMBean} for the scene being played. Reads game state
+ * from JMX threads without locking, so a value can be a tick stale; fine
+ * for monitoring, not for anything that acts on it.
+ */
+public class GameStats implements GameStatsMBean {
+    public static final String OBJECT_NAME = "com.example.game:type=GameStats";
+
+    private final Simulation sim;
+    private final Loop loop;
+    private final PhaseProfiler frames;
+    private final int framePhase;
+
+    /** The counters GameStats reads from the game loop, from JMX threads. */
+    public interface Loop {
+        long getTicks();
+        long getFrames();
+        long getDroppedTicks();
+        double getTickRate();
+    }
+
+    /** {@code frames} phase {@code framePhase} is the host's per-frame present time. */
+    public GameStats(Simulation sim, Loop loop, PhaseProfiler frames, int framePhase) {
+        this.sim = sim;
+        this.loop = loop;
+        this.frames = frames;
+        this.framePhase = framePhase;
+    }
+
+    /** Publishes these stats, replacing those of an earlier scene. Failure is logged, never thrown. */
+    public void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            try {
+                server.registerMBean(this, name);
+            } catch (InstanceAlreadyExistsException e) {
+                server.unregisterMBean(name);
+                server.registerMBean(this, name);
+            }
+        } catch (Exception e) {
+            System.err.println("ลงทะเบียน MBean ไม่สำเร็จ: " + e.getMessage());
+        }
+    }
+
+    /** Withdraws the published stats, at the end of the scene that registered them. */
+    public void unregister() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (Exception e) {
+            System.err.println("ยกเลิก MBean ไม่สำเร็จ: " + e.getMessage());
+        }
+    }
+
+    /** True while an MBean, this one or another scene's, is published under {@link #OBJECT_NAME}. */
+    public static boolean isRegistered() {
+        try {
+            return ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(OBJECT_NAME));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Override public long getTicks() { return loop.getTicks(); }
+    @Override public long getFrames() { return loop.getFrames(); }
+    @Override public long getDroppedTicks() { return loop.getDroppedTicks(); }
+
+    @Override public double getTickRate() { return loop.getTickRate(); }
+
+    @Override public double getFrameTimeP50Micros() { return frames.getWindow(framePhase).percentile(0.50) / 1e3; }
+    @Override public double getFrameTimeP99Micros() { return frames.getWindow(framePhase).percentile(0.99) / 1e3; }
+    @Override public double getFrameTimeMaxMicros() { return frames.getWindow(framePhase).getMax() / 1e3; }
+
+    @Override
+    public double getTickTimeP99Micros() {
+        PhaseProfiler phases = sim.getProfiler();
+        long sum = 0;
+        for (int i = 0; i < phases.getPhaseCount(); i++) {
+            sum += phases.getWindow(i).percentile(0.99);
+        }
+        return sum / 1e3;   // upper bound: the phases' p99s rarely land on the same tick
+    }
+
+    @Override public int getLiveEntities() { return sim.getStore().getLiveCount(); }
+
+    @Override
+    public int getLiveMinions() {
+        return sim.getMinionsAlive();
+    }
+
+    @Override public int getActiveVoices() { AudioMixer m = SoundManager.getOpenMixer(); return m == null ? 0 : m.getActiveVoices(); }
+    @Override public int getMaxVoices() { AudioMixer m = SoundManager.getOpenMixer(); return m == null ? 0 : m.getMaxVoices(); }
+    @Override public long getStolenVoices() { AudioMixer m = SoundManager.getOpenMixer(); return m == null ? 0 : m.getStolenVoices(); }
+    @Override public long getRejectedVoices() { AudioMixer m = SoundManager.getOpenMixer(); return m == null ? 0 : m.getRejectedVoices(); }
+
+    @Override public int getCachedImages() { return ResourceLoader.getCachedImageCount(); }
+    @Override public int getCachedSheets() { return ResourceLoader.getCachedSheetCount(); }
+    @Override public int getCachedSounds() { return ResourceLoader.getCachedSoundCount(); }
+    @Override public long getAtlasBytes() { return SpriteSheet.getAtlasBytes(); }
+    @Override public long getMirroredAtlasBytes() { return SpriteSheet.getMirroredBytes(); }
+}
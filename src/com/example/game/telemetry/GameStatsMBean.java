@@ -0,0 +1,32 @@
+package com.example.game.telemetry;
+
+/**
+ * Live numbers of a running game, under {@value GameStats#OBJECT_NAME}.
+ * Times are microseconds over the profiler's last complete window.
+ */
+public interface GameStatsMBean {
+    long getTicks();
+    long getFrames();
+    /** Ticks per second over the last whole second of play. */
+    double getTickRate();
+    long getDroppedTicks();
+
+    double getFrameTimeP50Micros();
+    double getFrameTimeP99Micros();
+    double getFrameTimeMaxMicros();
+    double getTickTimeP99Micros();
+
+    int getLiveEntities();
+    int getLiveMinions();
+
+    int getActiveVoices();
+    int getMaxVoices();
+    long getStolenVoices();
+    long getRejectedVoices();
+
+    int getCachedImages();
+    int getCachedSheets();
+    int getCachedSounds();
+    long getAtlasBytes();
+    long getMirroredAtlasBytes();
+}
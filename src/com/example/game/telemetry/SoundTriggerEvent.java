@@ -0,0 +1,34 @@
+package com.example.game.telemetry;
+
+import jdk.jfr.*;
+
+/** A sound handed to the mixer. The mixer may still merge, steal or reject it. */
+@Name("com.example.game.SoundTrigger")
+@Label("Sound Trigger")
+@Category({"Game", "Audio"})
+@StackTrace(false)
+public class SoundTriggerEvent extends Event {
+    static final EventType TYPE = EventType.getEventType(SoundTriggerEvent.class);
+
+    @Label("Sound")
+    public String sound;
+
+    @Label("Gain")
+    public float gain;
+
+    @Label("Priority")
+    public int priority;
+
+    public SoundTriggerEvent() {
+    }
+
+    /** Records a trigger if a recording wants it; nothing is allocated otherwise. */
+    public static void emit(String sound, float gain, int priority) {
+        if (!TYPE.isEnabled()) return;
+        SoundTriggerEvent event = new SoundTriggerEvent();
+        event.sound = sound;
+        event.gain = gain;
+        event.priority = priority;
+        event.commit();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.game.telemetry;
+
+import com.example.game.sim.PhaseProfiler;
+import com.example.game.sim.Simulation;
+import jdk.jfr.*;
+
+/** One game tick, with the time each phase took. Committed after the tick, so its own duration is zero. */
+@Name("com.example.game.Tick")
+@Label("Game Tick")
+@Category({"Game", "Tick"})
+@Description("Per-phase timings of one fixed-step game tick")
+@StackTrace(false)
+public class TickEvent extends Event {
+    static final EventType TYPE = EventType.getEventType(TickEvent.class);
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Total") @Timespan(Timespan.NANOSECONDS)
+    public long total;
+
+    @Label("Entities") @Timespan(Timespan.NANOSECONDS)
+    public long entities;
+
+    @Label("Gate") @Timespan(Timespan.NANOSECONDS)
+    public long gate;
+
+    @Label("Bounds") @Timespan(Timespan.NANOSECONDS)
+    public long bounds;
+
+    @Label("Debuff") @Timespan(Timespan.NANOSECONDS)
+    public long debuff;
+
+    @Label("Grid") @Timespan(Timespan.NANOSECONDS)
+    public long grid;
+
+    @Label("Combat") @Timespan(Timespan.NANOSECONDS)
+    public long combat;
+
+    @Label("Gem") @Timespan(Timespan.NANOSECONDS)
+    public long gem;
+
+    @Label("End") @Timespan(Timespan.NANOSECONDS)
+    public long end;
+
+    @Label("Camera") @Timespan(Timespan.NANOSECONDS)
+    public long camera;
+
+    public TickEvent() {
+    }
+
+    /** Records the tick just stepped if a recording wants it; nothing is allocated otherwise. */
+    public static void emit(long tick, PhaseProfiler phases, long totalNanos, long cameraNanos) {
+        if (!TYPE.isEnabled()) return;
+        TickEvent event = new TickEvent();
+        event.tick = tick;
+        event.total = totalNanos;
+        event.entities = phases.getLast(Simulation.P_ENTITIES);
+        event.gate = phases.getLast(Simulation.P_GATE);
+        event.bounds = phases.getLast(Simulation.P_BOUNDS);
+        event.debuff = phases.getLast(Simulation.P_DEBUFF);
+        event.grid = phases.getLast(Simulation.P_GRID);
+        event.combat = phases.getLast(Simulation.P_COMBAT);
+        event.gem = phases.getLast(Simulation.P_GEM);
+        event.end = phases.getLast(Simulation.P_END);
+        event.camera = cameraNanos;
+        event.commit();
+    }
+}
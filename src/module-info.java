@@ -6,4 +6,9 @@
  */
 module JavaGame {
 	requires java.desktop;
+	requires jdk.management;
+	requires transitive jdk.jfr;           // the telemetry events extend jdk.jfr.Event
+	requires transitive JavaGame.sim;      // and its API takes sim types
+
+	exports com.example.game.telemetry;   // JMX reads the MBean interface reflectively
 }
\ No newline at end of file